@@ -0,0 +1,140 @@
+package com.moleculepowered.api.console;
+
+import com.moleculepowered.api.console.enums.ConsoleColor;
+import com.moleculepowered.api.console.enums.LogLevel;
+import com.moleculepowered.api.console.enums.OverflowPolicy;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+/**
+ * Benchmarks used to measure the {@link Console} logging path, from formatting the message to
+ * publishing it through the plugin's logger. The logger publishes to a synchronized handler that
+ * formats every record and discards the output, similar to the server's console handler, so the
+ * threaded variants show how logging behaves under contention. Each benchmark runs with the
+ * console writing synchronously, and writing from its background thread with each overflow policy.
+ * The disabled variants measure debug messages discarded by the console's level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsoleBenchmark
+{
+    @Param({"SYNC", "BLOCK", "DROP_OLDEST", "DROP_DEBUG"})
+    public String mode;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Logger logger = Logger.getAnonymousLogger();
+        Handler handler = new StreamHandler(new OutputStream() {
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        }, new SimpleFormatter());
+
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+
+        Console.setInstance(createPlugin(logger));
+        Console.setPrettyPrint(true);
+
+        if (mode.equals("SYNC")) Console.setAsync(false);
+        else Console.setAsync(4096, OverflowPolicy.valueOf(mode));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() { Console.setAsync(false); }
+
+    @Benchmark
+    @Threads(1)
+    public void log() { Console.log("&aUpdate &e{0} &ais available", "2.4.0"); }
+
+    @Benchmark
+    @Threads(4)
+    public void logContended() { Console.log("&aUpdate &e{0} &ais available", "2.4.0"); }
+
+    @Benchmark
+    @Threads(1)
+    public void logColored() { Console.log(ConsoleColor.GOLD, "Unable to connect to {0}: Response code {1}", "GitHub", "503"); }
+
+    @Benchmark
+    @Threads(4)
+    public void logColoredContended() { Console.log(ConsoleColor.GOLD, "Unable to connect to {0}: Response code {1}", "GitHub", "503"); }
+
+    @Benchmark
+    @Threads(4)
+    public void debugContended() { Console.debugWarn("Skipping {0}, its host has no requests left", "GitHub"); }
+
+    @Benchmark
+    @Threads(4)
+    public void debugDisabled(DebugDisabled state) { Console.debugWarn("Skipping {0}, its host has no requests left", "GitHub"); }
+
+    @Benchmark
+    @Threads(4)
+    public void debugDisabledLazy(DebugDisabled state) { Console.debugWarn(() -> "Skipping GitHub, its host has no requests left"); }
+
+    /**
+     * A state used to disable debug messages for the benchmarks that use it
+     */
+    @State(Scope.Benchmark)
+    public static class DebugDisabled
+    {
+        @Setup(Level.Trial)
+        public void setup() { Console.setLevel(LogLevel.INFO); }
+
+        @TearDown(Level.Trial)
+        public void tearDown() { Console.setLevel(LogLevel.DEBUG); }
+    }
+
+    /**
+     * Used to create a plugin that only answers the calls the console makes
+     *
+     * @param logger The plugin's logger
+     * @return A plugin proxy
+     */
+    private static Plugin createPlugin(Logger logger) {
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[] {Plugin.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getLogger":
+                    return logger;
+                case "isEnabled":
+                    return false;
+                case "getName":
+                    return "Benchmark";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Benchmark";
+                default:
+                    return null;
+            }
+        });
+    }
+}
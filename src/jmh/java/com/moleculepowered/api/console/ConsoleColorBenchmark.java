@@ -0,0 +1,39 @@
+package com.moleculepowered.api.console;
+
+import com.moleculepowered.api.console.enums.ConsoleColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks used to measure the translation of bukkit color codes into console colors
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsoleColorBenchmark
+{
+    @Param({"&aEnabled &eExample &av2.4.0 &7(&#ff5555build 12&7)", "Plain message without any color codes at all"})
+    public String message;
+
+    @Benchmark
+    public String translateColorCodes() { return ConsoleColor.translateColorCodes(message); }
+
+    @Benchmark
+    public String stripColorCodes() { return ConsoleColor.stripColorCodes(message); }
+
+    @Benchmark
+    public String wrap() { return ConsoleColor.wrap(ConsoleColor.GOLD, message); }
+}
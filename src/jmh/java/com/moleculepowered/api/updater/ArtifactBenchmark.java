@@ -0,0 +1,40 @@
+package com.moleculepowered.api.updater;
+
+import com.moleculepowered.api.updater.enums.ReleaseTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks used to measure how remote versions are read, each provider's version passes
+ * through {@link Updater.RemoteArtifact} on every check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArtifactBenchmark
+{
+    @Param({"2.4.0", "v2.4.0-beta", "Example 2.4.0.12 (Pre-Release)"})
+    public String version;
+
+    @Param({"beta", "Pre-Release", "unknown"})
+    public String tag;
+
+    @Benchmark
+    public Updater.RemoteArtifact remoteArtifact() { return new Updater.RemoteArtifact(version); }
+
+    @Benchmark
+    public ReleaseTag releaseTag() { return ReleaseTag.parse(tag); }
+}
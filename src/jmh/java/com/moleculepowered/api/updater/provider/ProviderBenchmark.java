@@ -0,0 +1,84 @@
+package com.moleculepowered.api.updater.provider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks used to measure how each provider parses its remote server's response, every
+ * provider is fed a hand-written sample of the response shape documented by its api, which
+ * can be found within the payloads resource folder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProviderBenchmark
+{
+    private final GithubProvider github = new GithubProvider("MoleculePowered/Example");
+    private final SpigetProvider spiget = new SpigetProvider(102468);
+    private final SpigotProvider spigot = new SpigotProvider(102468);
+    private final BukkitProvider bukkit = new BukkitProvider(84512);
+    private final PolymartProvider polymart = new PolymartProvider(3561);
+    private String githubPayload, spigetPayload, spigotPayload, bukkitPayload, polymartPayload, modrinthPayload;
+
+    @Setup
+    public void setup() throws IOException {
+        githubPayload = load("github-release.json");
+        spigetPayload = load("spiget-version.json");
+        spigotPayload = load("spigot-update.txt");
+        bukkitPayload = load("bukkit-files.json");
+        polymartPayload = load("polymart-version.txt");
+        modrinthPayload = load("modrinth-update.json");
+    }
+
+    @Benchmark
+    public boolean github() throws IOException { return github.parse(reader(githubPayload)); }
+
+    @Benchmark
+    public boolean spiget() throws IOException { return spiget.parse(reader(spigetPayload)); }
+
+    @Benchmark
+    public boolean spigot() throws IOException { return spigot.parse(reader(spigotPayload)); }
+
+    @Benchmark
+    public boolean bukkit() throws IOException { return bukkit.parse(reader(bukkitPayload)); }
+
+    @Benchmark
+    public boolean polymart() throws IOException { return polymart.parse(reader(polymartPayload)); }
+
+    @Benchmark
+    public Map<String, ModrinthProvider.Release> modrinth() throws IOException { return ModrinthProvider.parse(reader(modrinthPayload)); }
+
+    private static BufferedReader reader(String payload) { return new BufferedReader(new StringReader(payload)); }
+
+    private static String load(String name) throws IOException {
+        try (InputStream in = ProviderBenchmark.class.getResourceAsStream("/payloads/" + name)) {
+            if (in == null) throw new IOException("Missing payload " + name);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) out.write(buffer, 0, read);
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.moleculepowered.api.util;
+
+import net.md_5.bungee.api.chat.TextComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks used to measure the string utilities that run for every message this library sends
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilBenchmark
+{
+    @Param({"&aUpdate &e{0} &ais available, download it at &b{1}", "Plain message without any codes or parameters"})
+    public String message;
+
+    @Param({"2h", "30 seconds", "1 week"})
+    public String interval;
+
+    @Benchmark
+    public String format() { return Util.format(message, "2.4.0", "https://github.com/MoleculePowered"); }
+
+    @Benchmark
+    public String formatNumber() { return Util.format("Checked {0} providers in {1}ms", 12, 1534L); }
+
+    @Benchmark
+    public String color() { return Util.color(message, "2.4.0", "https://github.com/MoleculePowered"); }
+
+    @Benchmark
+    public TextComponent colorComponent() { return Util.colorComponent(message, "2.4.0", "https://github.com/MoleculePowered"); }
+
+    @Benchmark
+    public long toInterval() { return Util.toInterval(interval); }
+}
@@ -0,0 +1,51 @@
+package com.moleculepowered.api.util;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks used to measure the cost of comparing versions, the baseline creates a new
+ * {@link ComparableVersion} for each side the same way {@link Version#compare(Object, Object)}
+ * originally did.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionBenchmark
+{
+    @Param({"1.8.8:1.20.4", "2.4.0-beta:2.4.0", "1.2.3.4.5:1.2.3.4.6"})
+    public String pair;
+
+    private String expected, actual;
+
+    @Setup
+    public void setup() {
+        String[] split = pair.split(":");
+        expected = split[0];
+        actual = split[1];
+    }
+
+    @Benchmark
+    public int compare() { return Version.compare(expected, actual); }
+
+    @Benchmark
+    public int compareBaseline() { return new ComparableVersion(expected).compareTo(new ComparableVersion(actual)); }
+
+    @Benchmark
+    public boolean isLess() { return Version.isLess(expected, actual); }
+}
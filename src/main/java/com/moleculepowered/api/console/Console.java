@@ -1,21 +1,52 @@
 package com.moleculepowered.api.console;
 
 import com.moleculepowered.api.console.enums.ConsoleColor;
+import com.moleculepowered.api.console.enums.LogLevel;
+import com.moleculepowered.api.console.enums.OverflowPolicy;
 import com.moleculepowered.api.messaging.Translatable;
 import com.moleculepowered.api.util.Util;
 import org.apache.commons.lang.Validate;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public final class Console
 {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long FLUSH_TIMEOUT = 5000L;
+    private static final int DEFAULT_PERMITS = 5;
+    private static final long DEFAULT_WINDOW = 60L;
+    private static final long DEFAULT_LOG_SIZE = 10L * 1024 * 1024;
+    private static final int DEFAULT_LOG_FILES = 5;
+    private static final ConcurrentHashMap<String, LogCategory> CATEGORIES = new ConcurrentHashMap<>();
+    static final Object[] NO_PARAMETERS = new Object[0];
+
+    // LEVEL SETTINGS, READ WITHOUT AN INSTANCE SO DISABLED MESSAGES RETURN STRAIGHT AWAY
+    private static volatile LogLevel level = LogLevel.DEBUG;
+    private static volatile int threshold = LogLevel.DEBUG.ordinal();
+
     private static Console instance;
     private final Plugin plugin;
     private Translatable i18n;
+    private volatile ConsoleWriter writer;
+    private volatile LogThrottle throttle;
+    private volatile LogFile logFile;
+    private final Object fileLock = new Object();
+    private DisableListener listener;
 
     // CONSOLE SETTINGS
     private ConsoleColor success;
@@ -55,7 +86,8 @@ public final class Console
 
     /**
      * Used to toggle whether console colors should be displayed when sending messages, If disabled,
-     * all messages sent using this class
+     * all messages sent using this class will have their color codes removed. For example, passing
+     * <code>System.console() != null</code> will only display colors when the output is a terminal
      *
      * @param toggle the toggle that enables or disables this feature
      * @see #isPretty()
@@ -70,6 +102,188 @@ public final class Console
      */
     public static void setTranslator(Translatable translator)                            { getInstance().i18n = translator;           }
 
+    /**
+     * Used to toggle whether this console writes its messages from a background thread, while enabled,
+     * logging a message only copies it into a buffer and the message is formatted and written by the
+     * background writer. By default, this setting is disabled.
+     * <p>
+     * When enabled with this method, the buffer holds 1024 messages and callers will wait for
+     * space when it is full.
+     *
+     * @param toggle the toggle that enables or disables this feature
+     * @see #setAsync(int, OverflowPolicy)
+     * @see #isAsync()
+     */
+    public static void setAsync(boolean toggle) {
+        if (toggle) setAsync(DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+        else getInstance().stopWriter();
+    }
+
+    /**
+     * Used to enable writing messages from a background thread, using a buffer that holds the provided
+     * amount of messages. When the buffer is full, the provided policy decides whether the caller waits
+     * or a message is dropped.
+     * <p>
+     * Buffered messages are always written when the plugin is disabled, Please note that this method must be
+     * called once the plugin is enabled, such as within its onEnable method.
+     *
+     * @param capacity The amount of messages the buffer can hold
+     * @param policy The policy used when the buffer is full
+     * @see #flush()
+     * @see #isAsync()
+     */
+    public static synchronized void setAsync(int capacity, @NotNull OverflowPolicy policy) {
+        Validate.isTrue(capacity > 0, "The buffer capacity must be greater than 0");
+        Validate.notNull(policy, "The overflow policy cannot be null");
+
+        Console console = getInstance();
+        ConsoleWriter current = console.writer;
+        if (current != null && current.getPolicy() == policy && current.getCapacity() >= capacity) return;
+
+        console.stopWriter();
+        console.writer = new ConsoleWriter(console, capacity, policy);
+        console.registerListener();
+    }
+
+    /**
+     * Used to toggle whether repeated messages are suppressed, while enabled, each message key may be
+     * logged 5 times per minute and any repeats beyond that are collapsed into a single summary once
+     * the minute is over. By default, this setting is disabled.
+     *
+     * @param toggle the toggle that enables or disables this feature
+     * @see #setRateLimit(int, long, TimeUnit)
+     * @see #isRateLimited()
+     */
+    public static void setRateLimit(boolean toggle) {
+        if (toggle) setRateLimit(DEFAULT_PERMITS, DEFAULT_WINDOW, TimeUnit.SECONDS);
+        else getInstance().stopThrottle();
+    }
+
+    /**
+     * Used to suppress repeated messages, each message key may be logged the provided amount of times
+     * within each window, and once a window is over, a single summary is written for each key whose
+     * repeats were suppressed. Messages are grouped by their key before being formatted, which means
+     * messages that only differ in their parameters are considered similar.
+     * <p>
+     * Please note that this method must be called once the plugin is enabled, such as within
+     * its onEnable method.
+     *
+     * @param permits The amount of messages allowed per key within each window
+     * @param window The length of each window
+     * @param unit The unit of the window
+     * @see #getSuppressedCount()
+     */
+    public static synchronized void setRateLimit(int permits, long window, @NotNull TimeUnit unit) {
+        Validate.isTrue(permits > 0, "The amount of permits must be greater than 0");
+        Validate.isTrue(window > 0, "The window must be greater than 0");
+        Validate.notNull(unit, "The time unit cannot be null");
+
+        Console console = getInstance();
+        LogThrottle current = console.throttle;
+        long nanos = unit.toNanos(window);
+        if (current != null && current.getPermits() == permits && current.getWindow() == nanos) return;
+
+        console.stopThrottle();
+        console.throttle = new LogThrottle(console, permits, nanos);
+        console.registerListener();
+    }
+
+    /**
+     * Used to toggle whether messages are also written as JSON lines to the "logs/console.jsonl" file within the
+     * plugin's data folder. While enabled, the file is rotated once it reaches 10 MiB, the 5 most recent rotated
+     * files are kept and each is compressed with gzip. By default, this setting is disabled.
+     *
+     * @param toggle the toggle that enables or disables this feature
+     * @see #setLogFile(File, long, int, boolean)
+     * @see #isLoggingToFile()
+     */
+    public static void setLogFile(boolean toggle) {
+        if (toggle) setLogFile(new File(getInstance().plugin.getDataFolder(), "logs" + File.separator + "console.jsonl"), DEFAULT_LOG_SIZE, DEFAULT_LOG_FILES, true);
+        else getInstance().stopLogFile(null);
+    }
+
+    /**
+     * Used to write every message as a JSON line to the provided file, in addition to the plugin's logger. Each line
+     * holds the time the message was logged, its level, its untranslated key, its parameters, the name of the thread
+     * that logged it and the plugin's name, for example:
+     * <pre>{"timestamp":"2024-05-01T12:00:00Z","level":"WARN","key":"Unable to connect to {0}","params":["GitHub"],"thread":"Server thread","plugin":"Example"}</pre>
+     * Once the file reaches the provided size it is renamed with the time it was rotated and a new file is started,
+     * rotated files are compressed and the oldest are deleted by a background thread.
+     * <p>
+     * Please note that this method must be called once the plugin is enabled, such as within its onEnable method.
+     *
+     * @param file Target file
+     * @param maxSize The size in bytes at which the file is rotated
+     * @param maxFiles The amount of rotated files to keep
+     * @param compress whether rotated files are compressed with gzip
+     * @see #setLogFile(boolean)
+     */
+    public static synchronized void setLogFile(@NotNull File file, long maxSize, int maxFiles, boolean compress) {
+        Validate.notNull(file, "The log file cannot be null");
+        Validate.isTrue(maxSize > 0, "The max file size must be greater than 0");
+        Validate.isTrue(maxFiles >= 0, "The amount of rotated files cannot be negative");
+
+        Console console = getInstance();
+        console.stopLogFile(null);
+
+        try {
+            console.logFile = new LogFile(file.toPath(), console.plugin, maxSize, maxFiles, compress);
+            console.registerListener();
+        }
+        catch (IOException ex) {
+            warn("Unable to open console log {0}: {1}", file.getName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Used to wait until every message logged before this call has been written, this method
+     * does nothing unless the console is writing from a background thread.
+     *
+     * @return true if every message was written
+     * @see #setAsync(boolean)
+     */
+    public static boolean flush() {
+        ConsoleWriter current = getInstance().writer;
+        return current == null || current.flush(FLUSH_TIMEOUT);
+    }
+
+    /**
+     * Used to set the lowest level of message this console will write, messages below this level
+     * are discarded before they are translated or formatted. By default, this level is
+     * {@link LogLevel#DEBUG}, which means every message will be written.
+     * <p>
+     * Categories that have not been given their own level will follow this level.
+     *
+     * @param level Target level
+     * @see #setLevel(String, LogLevel)
+     * @see #getLevel()
+     */
+    public static void setLevel(@NotNull LogLevel level) {
+        Validate.notNull(level, "The log level cannot be null");
+
+        synchronized (CATEGORIES) {
+            Console.level = level;
+            threshold = level.ordinal();
+            CATEGORIES.values().forEach(category -> category.inherit(threshold));
+        }
+    }
+
+    /**
+     * Used to set the lowest level of message the provided category will write, passing a null
+     * level will make the category follow the console's level again.
+     *
+     * @param category Category name
+     * @param level Target level
+     * @see #getCategory(String)
+     */
+    public static void setLevel(@NotNull String category, LogLevel level) {
+        LogCategory target = getCategory(category);
+
+        synchronized (CATEGORIES) {
+            target.setLevel(level, threshold);
+        }
+    }
+
     /*
     COLOR SETTINGS
      */
@@ -124,7 +338,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void log(String key, Object... param) {
-        getInstance().plugin.getLogger().log(Level.INFO, getInstance().prettyPrint(key, param));
+        if (enabled(LogLevel.INFO)) getInstance().dispatch(LogLevel.INFO, null, key, param);
     }
 
     /**
@@ -139,6 +353,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void log(Object input, Object... param) {
+        if (!enabled(LogLevel.INFO)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> log(String.valueOf(c), param));
         else log(String.valueOf(input), param);
     }
@@ -157,7 +372,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void log(ConsoleColor color, String key, Object... param) {
-        getInstance().plugin.getLogger().log(Level.INFO, getInstance().prettyPrint(color, key, param));
+        if (enabled(LogLevel.INFO)) getInstance().dispatch(LogLevel.INFO, color, key, param);
     }
 
     /**
@@ -174,6 +389,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void log(ConsoleColor color, Object input, Object... param) {
+        if (!enabled(LogLevel.INFO)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> log(color, String.valueOf(c), param));
         else log(color, String.valueOf(input), param);
     }
@@ -198,7 +414,9 @@ public final class Console
      * @see #setTranslator(com.moleculepowered.api.messaging.Translatable)
      * @see #setPrettyPrint(boolean)
      */
-    public static void success(String key, Object... param)                            { log(getInstance().success, key, param);       }
+    public static void success(String key, Object... param) {
+        if (enabled(LogLevel.INFO)) getInstance().dispatch(LogLevel.INFO, getInstance().success, key, param);
+    }
 
     /**
      * Used to log a collection of messages to the console, this message will be classified as a success message and
@@ -223,6 +441,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void success(Object input, Object... param) {
+        if (!enabled(LogLevel.INFO)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> success(String.valueOf(c), param));
         else success(String.valueOf(input), param);
     }
@@ -236,7 +455,9 @@ public final class Console
      * @see #setTranslator(com.moleculepowered.api.messaging.Translatable)
      * @see #setPrettyPrint(boolean)
      */
-    public static void warn(String key, Object... param)                               { log(getInstance().warn, key, param);        }
+    public static void warn(String key, Object... param) {
+        if (enabled(LogLevel.WARN)) getInstance().dispatch(LogLevel.WARN, key, param);
+    }
 
     /**
      * Used to log a collection of messages to the console, this message will be classified as a warning message and
@@ -261,6 +482,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void warn(Object input, Object... param) {
+        if (!enabled(LogLevel.WARN)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> warn(String.valueOf(c), param));
         else warn(String.valueOf(input), param);
     }
@@ -274,7 +496,9 @@ public final class Console
      * @see #setTranslator(com.moleculepowered.api.messaging.Translatable)
      * @see #setPrettyPrint(boolean)
      */
-    public static void error(String key, Object... param)                              { log(getInstance().error, key, param);         }
+    public static void error(String key, Object... param) {
+        if (enabled(LogLevel.ERROR)) getInstance().dispatch(LogLevel.ERROR, key, param);
+    }
 
     /**
      * Used to log a collection of messages to the console, this message will be classified as an error message and
@@ -299,6 +523,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void error(Object input, Object... param) {
+        if (!enabled(LogLevel.ERROR)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> error(String.valueOf(c), param));
         else error(String.valueOf(input), param);
     }
@@ -317,7 +542,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void debug(String key, Object... param) {
-        getInstance().plugin.getLogger().log(Level.INFO, "[DEBUG] " + getInstance().prettyPrint(key, param));
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, null, key, param);
     }
 
     /**
@@ -332,6 +557,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void debug(Object input, Object... param) {
+        if (!enabled(LogLevel.DEBUG)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> debug(String.valueOf(c), param));
         else debug(String.valueOf(input), param);
     }
@@ -347,7 +573,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void debug(ConsoleColor color, String key, Object... param) {
-        getInstance().plugin.getLogger().log(Level.INFO, "[DEBUG] " + getInstance().prettyPrint(color, key, param));
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, color, key, param);
     }
 
     /**
@@ -364,6 +590,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void debug(ConsoleColor color, Object input, Object... param) {
+        if (!enabled(LogLevel.DEBUG)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> debug(color, String.valueOf(c), param));
         else debug(color, String.valueOf(input), param);
     }
@@ -388,7 +615,9 @@ public final class Console
      * @see #setTranslator(com.moleculepowered.api.messaging.Translatable)
      * @see #setPrettyPrint(boolean)
      */
-    public static void debugSuccess(String key, Object... param)                       { debug(getInstance().success, key, param);     }
+    public static void debugSuccess(String key, Object... param) {
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, getInstance().success, key, param);
+    }
 
     /**
      * Used to log a debug message to the console, this message will be classified as a success message and
@@ -402,6 +631,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void debugSuccess(Object input, Object... param) {
+        if (!enabled(LogLevel.DEBUG)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> debugSuccess(String.valueOf(c), param));
         else debugSuccess(String.valueOf(input), param);
     }
@@ -426,7 +656,9 @@ public final class Console
      * @see #setTranslator(com.moleculepowered.api.messaging.Translatable)
      * @see #setPrettyPrint(boolean)
      */
-    public static void debugWarn(String key, Object... param)                          { debug(getInstance().warn, key, param);      }
+    public static void debugWarn(String key, Object... param) {
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, getInstance().warn, key, param);
+    }
 
     /**
      * Used to log a collection of debug message to the console, this message will be classified as a warning message and
@@ -451,6 +683,7 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void debugWarn(Object input, Object... param) {
+        if (!enabled(LogLevel.DEBUG)) return;
         if (input instanceof Collection) ((Collection<?>) input).forEach(c -> debugWarn(String.valueOf(c), param));
         else debugWarn(String.valueOf(input), param);
     }
@@ -464,7 +697,9 @@ public final class Console
      * @see #setTranslator(com.moleculepowered.api.messaging.Translatable)
      * @see #setPrettyPrint(boolean)
      */
-    public static void debugError(String key, Object... param)                         { debug(getInstance().error, key, param);       }
+    public static void debugError(String key, Object... param) {
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, getInstance().error, key, param);
+    }
 
     /**
      * Used to log a collection of debug message to the console, this message will be classified as an error message and
@@ -489,14 +724,150 @@ public final class Console
      * @see #setPrettyPrint(boolean)
      */
     public static void debugError(Object input, Object... param) {
-        if (input instanceof Collection) ((Collection<?>) input).forEach(c -> error(String.valueOf(c), param));
-        else error(String.valueOf(input), param);
+        if (!enabled(LogLevel.DEBUG)) return;
+        if (input instanceof Collection) ((Collection<?>) input).forEach(c -> debugError(String.valueOf(c), param));
+        else debugError(String.valueOf(input), param);
+    }
+
+    /*
+    LAZY LOGGERS
+     */
+
+    /**
+     * Used to log a standard message to the console, the supplier is only called if standard messages
+     * are enabled. The supplied message is handled the same way as a message key.
+     *
+     * @param message Message supplier
+     * @see #setLevel(LogLevel)
+     */
+    public static void log(@NotNull Supplier<String> message) {
+        if (enabled(LogLevel.INFO)) getInstance().dispatch(LogLevel.INFO, message.get(), NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log a success message to the console, the supplier is only called if standard messages
+     * are enabled. The supplied message is handled the same way as a message key.
+     *
+     * @param message Message supplier
+     * @see #setLevel(LogLevel)
+     */
+    public static void success(@NotNull Supplier<String> message) {
+        if (enabled(LogLevel.INFO)) getInstance().dispatch(LogLevel.INFO, getInstance().success, message.get(), NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log a warning message to the console, the supplier is only called if warning messages
+     * are enabled. The supplied message is handled the same way as a message key.
+     *
+     * @param message Message supplier
+     * @see #setLevel(LogLevel)
+     */
+    public static void warn(@NotNull Supplier<String> message) {
+        if (enabled(LogLevel.WARN)) getInstance().dispatch(LogLevel.WARN, message.get(), NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log an error message to the console, the supplier is only called if error messages
+     * are enabled. The supplied message is handled the same way as a message key.
+     *
+     * @param message Message supplier
+     * @see #setLevel(LogLevel)
+     */
+    public static void error(@NotNull Supplier<String> message) {
+        if (enabled(LogLevel.ERROR)) getInstance().dispatch(LogLevel.ERROR, message.get(), NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log a debug message to the console, the supplier is only called if debug messages
+     * are enabled, which makes this method suitable for messages that are expensive to build.
+     *
+     * @param message Message supplier
+     * @see #setLevel(LogLevel)
+     */
+    public static void debug(@NotNull Supplier<String> message) {
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, null, message.get(), NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log a debug message to the console using the success color, the supplier is only called
+     * if debug messages are enabled.
+     *
+     * @param message Message supplier
+     * @see #setLevel(LogLevel)
+     */
+    public static void debugSuccess(@NotNull Supplier<String> message) {
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, getInstance().success, message.get(), NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log a debug message to the console using the warning color, the supplier is only called
+     * if debug messages are enabled.
+     *
+     * @param message Message supplier
+     * @see #setLevel(LogLevel)
+     */
+    public static void debugWarn(@NotNull Supplier<String> message) {
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, getInstance().warn, message.get(), NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log a debug message to the console using the error color, the supplier is only called
+     * if debug messages are enabled.
+     *
+     * @param message Message supplier
+     * @see #setLevel(LogLevel)
+     */
+    public static void debugError(@NotNull Supplier<String> message) {
+        if (enabled(LogLevel.DEBUG)) getInstance().dispatch(LogLevel.DEBUG, getInstance().error, message.get(), NO_PARAMETERS);
     }
 
     /*
     GETTER METHODS
      */
 
+    /**
+     * Used to return the lowest level of message this console will write
+     *
+     * @return The console level
+     * @see #setLevel(LogLevel)
+     */
+    public static @NotNull LogLevel getLevel()                                         { return level;                              }
+
+    /**
+     * Return's true if this console will write messages of the provided level, otherwise, this method
+     * will return false. This method can be used to guard messages whose parameters are expensive to build.
+     *
+     * @param level Target level
+     * @return true if enabled
+     */
+    public static boolean isEnabled(@NotNull LogLevel level)                           { return level != LogLevel.OFF && enabled(level); }
+
+    /**
+     * Return's true if this console will write debug messages, otherwise, this method will
+     * return false.
+     *
+     * @return true if debugging
+     */
+    public static boolean isDebugEnabled()                                             { return enabled(LogLevel.DEBUG);            }
+
+    /**
+     * Used to return the category with the provided name, creating it if it does not exist
+     * yet. New categories follow the console's level until they are given their own.
+     *
+     * @param name Category name
+     * @return The log category
+     * @see #setLevel(String, LogLevel)
+     */
+    public static @NotNull LogCategory getCategory(@NotNull String name) {
+        Validate.notNull(name, "The category name cannot be null");
+        LogCategory category = CATEGORIES.get(name);
+        if (category != null) return category;
+
+        synchronized (CATEGORIES) {
+            return CATEGORIES.computeIfAbsent(name, key -> new LogCategory(key, threshold));
+        }
+    }
+
     /**
      * Return's true if the console is color formatting its messages, otherwise, this method
      * will return false.
@@ -517,6 +888,45 @@ public final class Console
     @Contract(pure = true)
     public boolean isLocalized()                                                       { return i18n != null;                       }
 
+    /**
+     * Return's true if the console is writing its messages from a background thread, otherwise,
+     * this method will return false.
+     *
+     * @return true if async
+     * @see #setAsync(boolean)
+     */
+    public static boolean isAsync()                                                    { return getInstance().writer != null;       }
+
+    /**
+     * Return's true if the console is suppressing repeated messages, otherwise, this method
+     * will return false.
+     *
+     * @return true if rate limited
+     * @see #setRateLimit(boolean)
+     */
+    public static boolean isRateLimited()                                              { return getInstance().throttle != null;     }
+
+    /**
+     * Return's true if the console is writing its messages to a log file, otherwise, this
+     * method will return false.
+     *
+     * @return true if logging to a file
+     * @see #setLogFile(boolean)
+     */
+    public static boolean isLoggingToFile()                                            { return getInstance().logFile != null;      }
+
+    /**
+     * Used to return the amount of messages suppressed since the rate limit was enabled, if the
+     * rate limit is disabled, this method will return 0.
+     *
+     * @return The suppressed messages
+     * @see #setRateLimit(int, long, TimeUnit)
+     */
+    public static long getSuppressedCount() {
+        LogThrottle current = getInstance().throttle;
+        return current != null ? current.getSuppressed() : 0;
+    }
+
     /**
      * Used to return an instance of this Console class. If an instance is not defined when this method is called
      * this method will throw an {@link java.lang.IllegalArgumentException}.
@@ -530,6 +940,13 @@ public final class Console
         return instance;
     }
 
+    /**
+     * Used to return the logger of the plugin this console belongs to
+     *
+     * @return The plugin's logger
+     */
+    @NotNull Logger getLogger() { return plugin.getLogger(); }
+
     /**
      * A utility method tasked with returning a localized string. Please note that if
      * a translator has not been set at the time this method is called, this method
@@ -548,34 +965,185 @@ public final class Console
     UTILITY METHODS
      */
 
+    /**
+     * A utility method used to check the provided level against the console's level, this is
+     * the only work done by a logger whose level is disabled.
+     *
+     * @param level Message level
+     * @return true if enabled
+     */
+    private static boolean enabled(@NotNull LogLevel level)                            { return level.ordinal() >= threshold;       }
+
+    /**
+     * A utility method used to hand a message to the background writer using the color assigned
+     * to the provided level within the color scheme.
+     *
+     * @param level Message level
+     * @param key Provided input
+     * @param param Optional parameters
+     */
+    void dispatch(@NotNull LogLevel level, String key, Object[] param) {
+        dispatch(level, level == LogLevel.WARN ? warn : level == LogLevel.ERROR ? error : null, key, param);
+    }
+
+    /**
+     * A utility method used to hand a message to the background writer unless its key has been
+     * rate limited. Please note that callers are expected to have checked the level beforehand.
+     *
+     * @param level Message level
+     * @param color Target color, or null to translate the message's color codes
+     * @param key Provided input
+     * @param param Optional parameters
+     */
+    private void dispatch(@NotNull LogLevel level, ConsoleColor color, String key, Object[] param) {
+        LogThrottle limiter = throttle;
+        if (limiter == null || limiter.tryAcquire(level, color, key)) emit(level, color, key, param, true);
+    }
+
+    /**
+     * A utility method used to hand a message to the background writer without checking the
+     * rate limit, if the console is not writing from a background thread, the message is
+     * written straight away.
+     *
+     * @param level Message level
+     * @param color Target color, or null to translate the message's color codes
+     * @param key Provided input
+     * @param param Optional parameters
+     * @param translate whether the key is handed to the translator, or only formatted
+     */
+    void emit(@NotNull LogLevel level, ConsoleColor color, String key, Object[] param, boolean translate) {
+        ConsoleWriter current = writer;
+
+        if (current != null) current.submit(level, color, key, param, translate);
+        else write(level, color, key, param, translate, Thread.currentThread(), System.currentTimeMillis());
+    }
+
+    /**
+     * A utility method used to format a message and write it to the plugin's logger, and to the
+     * log file if one is set.
+     *
+     * @param level Message level
+     * @param color Target color, or null to translate the message's color codes
+     * @param key Provided input
+     * @param param Optional parameters
+     * @param translate whether the key is handed to the translator, or only formatted
+     * @param thread The thread that logged the message
+     * @param time The time the message was logged
+     */
+    void write(@NotNull LogLevel level, ConsoleColor color, String key, Object[] param, boolean translate, @NotNull Thread thread, long time) {
+        String text = translate ? getMessage(key, param) : Util.format(String.valueOf(key), param);
+        String message = color != null ? prettyPrint(color, text) : prettyPrint(text);
+        plugin.getLogger().log(Level.INFO, level == LogLevel.DEBUG ? "[DEBUG] " + message : message);
+
+        LogFile current = logFile;
+        if (current == null) return;
+
+        try {
+            current.append(level, key, param, thread, time);
+        }
+        catch (IOException ex) {
+            plugin.getLogger().log(Level.WARNING, "Unable to write console log " + current.getFile().getFileName() + ", it has been disabled", ex);
+            stopLogFile(current);
+        }
+    }
+
+    /**
+     * A utility method used to register the listener that stops the background tasks when the
+     * plugin is disabled, if it has not been registered yet.
+     */
+    private void registerListener() {
+        if (listener == null && plugin.isEnabled()) {
+            listener = new DisableListener();
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+        }
+    }
+
+    /**
+     * A utility method used to stop suppressing repeated messages, the summaries of the current
+     * window are written straight away.
+     */
+    private synchronized void stopThrottle() {
+        LogThrottle current = throttle;
+        throttle = null;
+        if (current != null) current.close();
+    }
+
+    /**
+     * A utility method used to close the log file, if an expected file is provided, the log file
+     * will only be closed if it is still the current one.
+     *
+     * @param expected The log file expected to be current, or null to close any log file
+     */
+    private void stopLogFile(LogFile expected) {
+        LogFile current;
+
+        synchronized (fileLock) {
+            current = logFile;
+            if (current == null || (expected != null && current != expected)) return;
+            logFile = null;
+        }
+        current.close();
+    }
+
+    /**
+     * A utility method used to stop the background writer once its buffered messages have
+     * been written.
+     */
+    private synchronized void stopWriter() {
+        ConsoleWriter current = writer;
+        writer = null;
+        if (current != null) current.close(FLUSH_TIMEOUT);
+    }
+
     /**
      * A utility method used to configure the message to include or exclude color formatting based
      * on the {@link #prettyPrint} setting, if enabled this method will return a color coded
-     * message. Otherwise, it will return the original message provided.
+     * message. Otherwise, it will return the message with its color codes removed.
      *
      * @param color Target color
-     * @param key Provided input
-     * @param param Optional parameters
+     * @param message Formatted message
      * @return a color configured string
      * @see #setPrettyPrint(boolean)
      * @see #isPretty()
      */
-    private String prettyPrint(ConsoleColor color, String key, Object... param) {
-        return prettyPrint ? ConsoleColor.wrap(color, getMessage(key, param)) : getMessage(key, param);
+    private String prettyPrint(ConsoleColor color, String message) {
+        return prettyPrint ? ConsoleColor.wrap(color, message) : ConsoleColor.stripColorCodes(message);
     }
 
     /**
      * A utility method used to configure the message to include or exclude color formatting based
      * on the {@link #prettyPrint} setting, if enabled this method will return a color coded
-     * message. Otherwise, it will return the original message provided.
+     * message. Otherwise, it will return the message with its color codes removed.
      *
-     * @param key Provided input
-     * @param param Optional parameters
+     * @param message Formatted message
      * @return a color configured string
      * @see #setPrettyPrint(boolean)
      * @see #isPretty()
      */
-    private String prettyPrint(String key, Object... param) {
-        return prettyPrint ? ConsoleColor.translateColorCodes(getMessage(key, param)) : getMessage(key, param);
+    private String prettyPrint(String message) {
+        return prettyPrint ? ConsoleColor.translateColorCodes(message) : ConsoleColor.stripColorCodes(message);
+    }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A listener used to write every suppressed message summary and buffered message before the
+     * plugin is disabled, and to close the log file afterwards
+     */
+    private static final class DisableListener implements Listener
+    {
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginDisable(@NotNull PluginDisableEvent event) {
+            Console console = instance;
+            if (console == null || !event.getPlugin().equals(console.plugin)) return;
+
+            console.stopThrottle();
+            console.stopWriter();
+            console.stopLogFile(null);
+            HandlerList.unregisterAll(this);
+            console.listener = null;
+        }
     }
 }
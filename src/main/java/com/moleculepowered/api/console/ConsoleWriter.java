@@ -0,0 +1,280 @@
+package com.moleculepowered.api.console;
+
+import com.moleculepowered.api.console.enums.ConsoleColor;
+import com.moleculepowered.api.console.enums.LogLevel;
+import com.moleculepowered.api.console.enums.OverflowPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+
+/**
+ * A class used to write console messages from a background thread.
+ * <p>
+ * Calling threads only copy the message key and its parameters into a preallocated ring buffer,
+ * the writer thread then takes the messages out of the buffer in batches and translates, formats,
+ * colors and logs them. Please note that the parameters are formatted by the writer, so mutable
+ * objects should not be changed after being logged.
+ *
+ * @see Console#setAsync(int, OverflowPolicy)
+ */
+final class ConsoleWriter implements Runnable
+{
+    private static final int BATCH_SIZE = 64;
+
+    private final Console console;
+    private final OverflowPolicy policy;
+    private final Entry[] buffer;
+    private final Entry[] batch;
+    private final int mask;
+    private final Thread thread;
+
+    // BUFFER STATE, GUARDED BY THE LOCK
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition written = lock.newCondition();
+    private long head, tail, flushed, dropped;
+    private boolean running = true;
+
+    /**
+     * Creates a new writer and starts its thread, the capacity is rounded up to the next
+     * power of two.
+     *
+     * @param console Parent console
+     * @param capacity The amount of messages the buffer can hold
+     * @param policy The policy used when the buffer is full
+     */
+    ConsoleWriter(@NotNull Console console, int capacity, @NotNull OverflowPolicy policy) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+        this.console = console;
+        this.policy = policy;
+        this.buffer = new Entry[size];
+        this.batch = new Entry[BATCH_SIZE];
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) buffer[i] = new Entry();
+        for (int i = 0; i < BATCH_SIZE; i++) batch[i] = new Entry();
+
+        this.thread = new Thread(this, "Console-Writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to add a message to the buffer, if this method is called by the writer itself or the
+     * writer has been closed, the message will be written on the calling thread instead.
+     *
+     * @param level Message level
+     * @param color Target color, or null to translate the message's color codes
+     * @param key Provided input
+     * @param param Optional parameters
+     * @param translate whether the key is handed to the translator, or only formatted
+     */
+    void submit(@NotNull LogLevel level, @Nullable ConsoleColor color, String key, Object[] param, boolean translate) {
+        Thread caller = Thread.currentThread();
+        long time = System.currentTimeMillis();
+
+        if (caller == thread) {
+            console.write(level, color, key, param, translate, caller, time);
+            return;
+        }
+
+        lock.lock();
+        try {
+            while (running && tail - head == buffer.length) {
+                if (policy == OverflowPolicy.DROP_OLDEST) {
+                    buffer[(int) (head++ & mask)].clear();
+                    dropped++;
+                    break;
+                }
+                if (policy == OverflowPolicy.DROP_DEBUG && level == LogLevel.DEBUG) {
+                    dropped++;
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+            }
+
+            if (running) {
+                buffer[(int) (tail++ & mask)].set(level, color, key, param, translate, caller, time);
+                notEmpty.signal();
+                return;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        console.write(level, color, key, param, translate, caller, time);
+    }
+
+    /**
+     * The method run by the writer thread, it will take up to {@link #BATCH_SIZE} messages out of the
+     * buffer at a time and write them without holding the lock.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            int count;
+            long missed;
+            long position;
+
+            lock.lock();
+            try {
+                while (running && head == tail) notEmpty.awaitUninterruptibly();
+                if (head == tail) return;
+
+                count = (int) Math.min(BATCH_SIZE, tail - head);
+                for (int i = 0; i < count; i++) {
+                    Entry entry = buffer[(int) (head++ & mask)];
+                    batch[i].copy(entry);
+                    entry.clear();
+                }
+
+                position = head;
+                missed = dropped;
+                dropped = 0;
+                notFull.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+
+            if (missed > 0) console.write(LogLevel.WARN, ConsoleColor.GOLD, "{0} console messages were dropped because the buffer was full", new Object[] {missed}, false, thread, System.currentTimeMillis());
+            for (int i = 0; i < count; i++) {
+                Entry entry = batch[i];
+
+                try {
+                    console.write(entry.level, entry.color, entry.key, entry.param, entry.translate, entry.caller, entry.time);
+                }
+                catch (RuntimeException ex) {
+                    console.getLogger().log(Level.WARNING, "Unable to write console message " + entry.key, ex);
+                }
+                entry.clear();
+            }
+
+            lock.lock();
+            try {
+                flushed = position;
+                written.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Used to wait until every message submitted before this call has been written, or until
+     * the timeout has passed.
+     *
+     * @param timeout The max time to wait in milliseconds
+     * @return true if every message was written
+     */
+    boolean flush(long timeout) {
+        if (Thread.currentThread() == thread) return false;
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        lock.lock();
+        try {
+            long target = tail;
+
+            while (flushed < target && thread.isAlive()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+                written.awaitNanos(remaining);
+            }
+            return flushed >= target;
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Used to stop the writer thread once every buffered message has been written, any message
+     * submitted after this method is called will be written on the calling thread.
+     *
+     * @param timeout The max time to wait in milliseconds
+     */
+    void close(long timeout) {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+
+        try {
+            if (Thread.currentThread() != thread) thread.join(timeout);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the policy used when the buffer is full
+     *
+     * @return The overflow policy
+     */
+    @NotNull OverflowPolicy getPolicy() { return policy; }
+
+    /**
+     * Used to return the amount of messages the buffer can hold
+     *
+     * @return The buffer capacity
+     */
+    int getCapacity() { return buffer.length; }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A class used to hold a single message within the buffer, entries are reused so
+     * submitting a message does not create any objects.
+     */
+    private static final class Entry
+    {
+        private LogLevel level;
+        private ConsoleColor color;
+        private String key;
+        private Object[] param;
+        private boolean translate;
+        private Thread caller;
+        private long time;
+
+        private void set(LogLevel level, ConsoleColor color, String key, Object[] param, boolean translate, Thread caller, long time) {
+            this.level = level;
+            this.color = color;
+            this.key = key;
+            this.param = param;
+            this.translate = translate;
+            this.caller = caller;
+            this.time = time;
+        }
+
+        private void copy(@NotNull Entry other) { set(other.level, other.color, other.key, other.param, other.translate, other.caller, other.time); }
+
+        private void clear() { set(null, null, null, null, false, null, 0); }
+    }
+}
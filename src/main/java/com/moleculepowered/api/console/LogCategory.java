@@ -0,0 +1,189 @@
+package com.moleculepowered.api.console;
+
+import com.moleculepowered.api.console.enums.LogLevel;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * A class used to log messages under a named category whose level can be changed independently
+ * of the console's level, for example, allowing the debug messages of a single feature to be enabled
+ * on a server that otherwise only writes warnings.
+ * <p>
+ * Categories that have not been given their own level follow the console's level. Checking whether
+ * a message should be written only reads a single field, so messages discarded by a disabled level
+ * are never translated, formatted or written.
+ *
+ * @see Console#getCategory(String)
+ * @see Console#setLevel(String, LogLevel)
+ */
+public final class LogCategory
+{
+    private final String name;
+    private volatile LogLevel level;
+    private volatile int threshold;
+
+    /**
+     * Creates a new category that follows the provided console threshold
+     *
+     * @param name Category name
+     * @param threshold The console's current threshold
+     */
+    LogCategory(@NotNull String name, int threshold) {
+        this.name = name;
+        this.threshold = threshold;
+    }
+
+    /*
+    LOGGERS
+     */
+
+    /**
+     * Used to log a debug message under this category, the message is discarded if this category
+     * does not allow debug messages.
+     *
+     * @param key Provided input
+     * @param param Optional parameters
+     * @see Console#debug(String, Object...)
+     */
+    public void debug(String key, Object... param) {
+        if (threshold <= LogLevel.DEBUG.ordinal()) Console.getInstance().dispatch(LogLevel.DEBUG, key, param);
+    }
+
+    /**
+     * Used to log a debug message under this category, the supplier is only called if this category
+     * allows debug messages.
+     *
+     * @param message Message supplier
+     * @see Console#debug(Supplier)
+     */
+    public void debug(@NotNull Supplier<String> message) {
+        if (threshold <= LogLevel.DEBUG.ordinal()) Console.getInstance().dispatch(LogLevel.DEBUG, message.get(), Console.NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log a standard message under this category, the message is discarded if this category
+     * does not allow standard messages.
+     *
+     * @param key Provided input
+     * @param param Optional parameters
+     * @see Console#log(String, Object...)
+     */
+    public void log(String key, Object... param) {
+        if (threshold <= LogLevel.INFO.ordinal()) Console.getInstance().dispatch(LogLevel.INFO, key, param);
+    }
+
+    /**
+     * Used to log a standard message under this category, the supplier is only called if this category
+     * allows standard messages.
+     *
+     * @param message Message supplier
+     * @see Console#log(Supplier)
+     */
+    public void log(@NotNull Supplier<String> message) {
+        if (threshold <= LogLevel.INFO.ordinal()) Console.getInstance().dispatch(LogLevel.INFO, message.get(), Console.NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log a warning message under this category, the message is discarded if this category
+     * does not allow warning messages.
+     *
+     * @param key Provided input
+     * @param param Optional parameters
+     * @see Console#warn(String, Object...)
+     */
+    public void warn(String key, Object... param) {
+        if (threshold <= LogLevel.WARN.ordinal()) Console.getInstance().dispatch(LogLevel.WARN, key, param);
+    }
+
+    /**
+     * Used to log a warning message under this category, the supplier is only called if this category
+     * allows warning messages.
+     *
+     * @param message Message supplier
+     * @see Console#warn(Supplier)
+     */
+    public void warn(@NotNull Supplier<String> message) {
+        if (threshold <= LogLevel.WARN.ordinal()) Console.getInstance().dispatch(LogLevel.WARN, message.get(), Console.NO_PARAMETERS);
+    }
+
+    /**
+     * Used to log an error message under this category, the message is discarded if this category
+     * does not allow error messages.
+     *
+     * @param key Provided input
+     * @param param Optional parameters
+     * @see Console#error(String, Object...)
+     */
+    public void error(String key, Object... param) {
+        if (threshold <= LogLevel.ERROR.ordinal()) Console.getInstance().dispatch(LogLevel.ERROR, key, param);
+    }
+
+    /**
+     * Used to log an error message under this category, the supplier is only called if this category
+     * allows error messages.
+     *
+     * @param message Message supplier
+     * @see Console#error(Supplier)
+     */
+    public void error(@NotNull Supplier<String> message) {
+        if (threshold <= LogLevel.ERROR.ordinal()) Console.getInstance().dispatch(LogLevel.ERROR, message.get(), Console.NO_PARAMETERS);
+    }
+
+    /*
+    SETTER METHODS
+     */
+
+    /**
+     * Used to set the level of this category, passing null will make this category follow
+     * the console's level again.
+     *
+     * @param level Target level
+     * @param fallback The console's threshold
+     */
+    void setLevel(@Nullable LogLevel level, int fallback) {
+        this.level = level;
+        this.threshold = level != null ? level.ordinal() : fallback;
+    }
+
+    /**
+     * Used to update the threshold this category follows when it has not been given its own level
+     *
+     * @param fallback The console's threshold
+     */
+    void inherit(int fallback) {
+        if (level == null) threshold = fallback;
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the name of this category
+     *
+     * @return The category name
+     */
+    @Contract(pure = true)
+    public @NotNull String getName() { return name; }
+
+    /**
+     * Used to return the level this category was given, if this category follows the
+     * console's level, this method will return null.
+     *
+     * @return The category level
+     */
+    @Contract(pure = true)
+    public @Nullable LogLevel getLevel() { return level; }
+
+    /**
+     * Return's true if this category will write messages of the provided level, otherwise,
+     * this method will return false.
+     *
+     * @param level Target level
+     * @return true if enabled
+     */
+    public boolean isEnabled(@NotNull LogLevel level) { return level != LogLevel.OFF && level.ordinal() >= threshold; }
+}
@@ -0,0 +1,370 @@
+package com.moleculepowered.api.console;
+
+import com.moleculepowered.api.console.enums.LogLevel;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A class used to write console messages as JSON lines to a file that is rotated once it reaches
+ * its max size.
+ * <p>
+ * Each line is a single record holding the time the message was logged, its level, its untranslated
+ * key, its parameters, the thread that logged it and the plugin's name. Records are encoded into a
+ * reused buffer and appended through a {@link FileChannel}. Rotated files are renamed with the time
+ * they were rotated, and compressing them as well as deleting the oldest rotated files is done by a
+ * background thread so the thread writing the records never waits on either.
+ *
+ * @see Console#setLogFile(java.io.File, long, int, boolean)
+ */
+final class LogFile
+{
+    private static final DateTimeFormatter ROTATED_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+    private static final String EXTENSION = ".jsonl";
+    private static final String COMPRESSED = ".gz";
+    private static final int BUFFER_SIZE = 16384;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path file;
+    private final String prefix;
+    private final String plugin;
+    private final Logger logger;
+    private final long maxSize;
+    private final int maxFiles;
+    private final boolean compress;
+    private final ExecutorService executor;
+
+    // WRITE STATE, GUARDED BY THIS OBJECT
+    private final StringBuilder builder = new StringBuilder(512);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private FileChannel channel;
+    private long size;
+
+    /**
+     * Creates a new log file, appending to the file if it already exists
+     *
+     * @param file Target file
+     * @param plugin The plugin whose name is written with each record
+     * @param maxSize The size in bytes at which the file is rotated
+     * @param maxFiles The amount of rotated files to keep
+     * @param compress whether rotated files are compressed
+     * @throws IOException thrown when the file could not be opened
+     */
+    LogFile(@NotNull Path file, @NotNull Plugin plugin, long maxSize, int maxFiles, boolean compress) throws IOException {
+        String name = file.getFileName().toString();
+
+        this.file = file.toAbsolutePath();
+        this.prefix = (name.endsWith(EXTENSION) ? name.substring(0, name.length() - EXTENSION.length()) : name) + "-";
+        this.plugin = plugin.getName();
+        this.logger = plugin.getLogger();
+        this.maxSize = maxSize;
+        this.maxFiles = maxFiles;
+        this.compress = compress;
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "Console-LogFile");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Files.createDirectories(this.file.getParent());
+        open();
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to append a record to this file, rotating the file first if the record would
+     * exceed its max size.
+     *
+     * @param level Message level
+     * @param key Provided input
+     * @param param Optional parameters
+     * @param thread The thread that logged the message
+     * @param time The time the message was logged
+     * @throws IOException thrown when the record could not be written
+     */
+    synchronized void append(@NotNull LogLevel level, String key, Object[] param, @NotNull Thread thread, long time) throws IOException {
+        if (channel == null) return;
+
+        StringBuilder record = builder;
+        record.setLength(0);
+        record.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(time), record);
+        record.append("\",\"level\":\"").append(level.name()).append("\",\"key\":");
+        appendString(record, key);
+        record.append(",\"params\":[");
+
+        if (param != null) {
+            for (int i = 0; i < param.length; i++) {
+                if (i > 0) record.append(',');
+                appendValue(record, param[i]);
+            }
+        }
+
+        record.append("],\"thread\":");
+        appendString(record, thread.getName());
+        record.append(",\"plugin\":");
+        appendString(record, plugin);
+        record.append("}\n");
+
+        ByteBuffer bytes = encode(record);
+        if (size > 0 && size + bytes.remaining() > maxSize) rotate();
+
+        while (bytes.hasRemaining()) size += channel.write(bytes);
+        if (record.capacity() > BUFFER_SIZE) record.trimToSize();
+    }
+
+    /**
+     * Used to close this file, rotated files that are still being compressed are given a few
+     * seconds to finish.
+     */
+    void close() {
+        synchronized (this) {
+            try {
+                if (channel != null) channel.close();
+            }
+            catch (IOException ignored) {}
+            channel = null;
+        }
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the file records are currently written to
+     *
+     * @return The current file
+     */
+    @NotNull Path getFile() { return file; }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to open the current file in append mode
+     *
+     * @throws IOException thrown when the file could not be opened
+     */
+    private void open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+
+    /**
+     * A utility method used to move the current file aside and start a new one, the rotated
+     * file is handed to the background thread to be compressed and pruned.
+     *
+     * @throws IOException thrown when the file could not be rotated
+     */
+    private void rotate() throws IOException {
+        channel.close();
+        channel = null;
+
+        String stamp = ROTATED_NAME.format(Instant.now());
+        Path rotated = file.resolveSibling(prefix + stamp + EXTENSION);
+        for (int i = 1; Files.exists(rotated) || Files.exists(rotated.resolveSibling(rotated.getFileName() + COMPRESSED)); i++) {
+            rotated = file.resolveSibling(prefix + stamp + "." + i + EXTENSION);
+        }
+
+        Files.move(file, rotated, StandardCopyOption.ATOMIC_MOVE);
+        open();
+
+        Path target = rotated;
+        executor.execute(() -> {
+            if (compress) compress(target);
+            prune();
+        });
+    }
+
+    /**
+     * A utility method used to compress a rotated file, the compressed file is written next to it
+     * and only replaces it once complete.
+     *
+     * @param source Target file
+     */
+    private void compress(@NotNull Path source) {
+        Path target = source.resolveSibling(source.getFileName() + COMPRESSED);
+        Path temp = source.resolveSibling(source.getFileName() + COMPRESSED + ".tmp");
+
+        try (InputStream in = Files.newInputStream(source); OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+            byte[] chunk = new byte[BUFFER_SIZE];
+            for (int read; (read = in.read(chunk)) != -1; ) out.write(chunk, 0, read);
+        }
+        catch (IOException ex) {
+            logger.log(Level.WARNING, "Unable to compress console log " + source.getFileName(), ex);
+            try {
+                Files.deleteIfExists(temp);
+            }
+            catch (IOException ignored) {}
+            return;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(source);
+        }
+        catch (IOException ex) {
+            logger.log(Level.WARNING, "Unable to replace console log " + source.getFileName(), ex);
+        }
+    }
+
+    /**
+     * A utility method used to delete the oldest rotated files once there are more than
+     * {@link #maxFiles} of them, rotated files are named with the time they were rotated so
+     * sorting them by name sorts them by age.
+     */
+    private void prune() {
+        List<Path> rotated = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(file.getParent(), prefix + "*")) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(EXTENSION) || name.endsWith(EXTENSION + COMPRESSED)) rotated.add(path);
+            }
+        }
+        catch (IOException ex) {
+            logger.log(Level.WARNING, "Unable to list console logs", ex);
+            return;
+        }
+
+        if (rotated.size() <= maxFiles) return;
+        Collections.sort(rotated);
+
+        for (int i = 0; i < rotated.size() - maxFiles; i++) {
+            try {
+                Files.deleteIfExists(rotated.get(i));
+            }
+            catch (IOException ex) {
+                logger.log(Level.WARNING, "Unable to delete console log " + rotated.get(i).getFileName(), ex);
+            }
+        }
+    }
+
+    /**
+     * A utility method used to encode the provided record into the reused buffer, the buffer is
+     * grown when a record does not fit.
+     *
+     * @param record Target record
+     * @return The buffer holding the encoded record
+     */
+    private @NotNull ByteBuffer encode(@NotNull CharSequence record) {
+        CharBuffer chars = CharBuffer.wrap(record);
+
+        while (true) {
+            buffer.clear();
+            encoder.reset();
+
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (!result.isOverflow()) result = encoder.flush(buffer);
+            if (!result.isOverflow()) break;
+
+            buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+            chars.rewind();
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * A utility method used to append a parameter as a JSON value, numbers and booleans are written
+     * as they are, while every other object is written as its string form.
+     *
+     * @param record Target record
+     * @param value Target value
+     */
+    private static void appendValue(@NotNull StringBuilder record, Object value) {
+        if (value == null) {
+            record.append("null");
+        }
+        else if (value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            record.append(value);
+        }
+        else if (value instanceof Number && Double.isFinite(((Number) value).doubleValue())) {
+            record.append(value);
+        }
+        else {
+            appendString(record, String.valueOf(value));
+        }
+    }
+
+    /**
+     * A utility method used to append a quoted and escaped JSON string
+     *
+     * @param record Target record
+     * @param value Target string
+     */
+    private static void appendString(@NotNull StringBuilder record, String value) {
+        if (value == null) {
+            record.append("null");
+            return;
+        }
+
+        record.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"':
+                    record.append("\\\"");
+                    break;
+                case '\\':
+                    record.append("\\\\");
+                    break;
+                case '\n':
+                    record.append("\\n");
+                    break;
+                case '\r':
+                    record.append("\\r");
+                    break;
+                case '\t':
+                    record.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') record.append("\\u").append(HEX[c >> 12 & 15]).append(HEX[c >> 8 & 15]).append(HEX[c >> 4 & 15]).append(HEX[c & 15]);
+                    else record.append(c);
+            }
+        }
+        record.append('"');
+    }
+}
@@ -0,0 +1,232 @@
+package com.moleculepowered.api.console;
+
+import com.moleculepowered.api.console.enums.ConsoleColor;
+import com.moleculepowered.api.console.enums.LogLevel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A class used to stop repeated console messages from flooding the console.
+ * <p>
+ * Every message key is given its own token bucket that allows a burst of messages within each window,
+ * messages beyond that are suppressed and counted. Once the window closes, a single summary is written
+ * for each key whose messages were suppressed. Buckets are kept within a fixed size table and are only
+ * updated through atomic operations, so logging never waits on a lock and the memory used does not grow
+ * with the amount of distinct messages.
+ *
+ * @see Console#setRateLimit(int, long, TimeUnit)
+ */
+final class LogThrottle implements Runnable
+{
+    private static final int TABLE_SIZE = 256;
+    private static final int PROBES = 4;
+
+    private final Console console;
+    private final int permits;
+    private final long window;
+    private final long interval;
+    private final AtomicReferenceArray<Bucket> table = new AtomicReferenceArray<>(TABLE_SIZE);
+    private final LongAdder suppressed = new LongAdder();
+    private final AtomicInteger untracked = new AtomicInteger();
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a new throttle and schedules the task that writes its summaries
+     *
+     * @param console Parent console
+     * @param permits The amount of messages allowed per key within each window
+     * @param window The length of each window in nanoseconds
+     */
+    LogThrottle(@NotNull Console console, int permits, long window) {
+        this.console = console;
+        this.permits = permits;
+        this.window = window;
+        this.interval = Math.max(1, window / permits);
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "Console-Throttle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleAtFixedRate(this, window, window, TimeUnit.NANOSECONDS);
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to take a token from the bucket assigned to the provided key, if the bucket is empty
+     * the message is counted as suppressed.
+     *
+     * @param level Message level
+     * @param color Message color
+     * @param key Provided input
+     * @return true if the message may be written
+     */
+    boolean tryAcquire(@NotNull LogLevel level, @Nullable ConsoleColor color, @Nullable String key) {
+        if (key == null) return true;
+
+        long now = System.nanoTime();
+        Bucket bucket = getBucket(level, color, key, now);
+        if (bucket.tryAcquire(now, interval, window)) return true;
+
+        bucket.suppressed.incrementAndGet();
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * The method run once every window, it writes a summary for every key whose messages were
+     * suppressed and releases the buckets that have been idle for a whole window.
+     */
+    @Override
+    public void run() {
+        long now = System.nanoTime();
+
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            Bucket bucket = table.get(i);
+            if (bucket == null) continue;
+
+            summarize(bucket);
+            if (now - bucket.tat.get() > window && bucket.suppressed.get() == 0) table.compareAndSet(i, bucket, null);
+        }
+
+        int count = untracked.getAndSet(0);
+        if (count > 0) console.emit(LogLevel.WARN, ConsoleColor.GOLD, "Suppressed {0} messages whose keys were no longer tracked", new Object[] {String.valueOf(count)}, false);
+    }
+
+    /**
+     * Used to stop the summary task, writing the summaries of the current window straight away
+     */
+    void close() {
+        executor.shutdownNow();
+        run();
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the amount of messages allowed per key within each window
+     *
+     * @return The amount of permits
+     */
+    int getPermits() { return permits; }
+
+    /**
+     * Used to return the length of each window in nanoseconds
+     *
+     * @return The window length
+     */
+    long getWindow() { return window; }
+
+    /**
+     * Used to return the amount of messages this throttle has suppressed
+     *
+     * @return The suppressed messages
+     */
+    long getSuppressed() { return suppressed.sum(); }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to find the bucket assigned to the provided key, if the key does not have
+     * a bucket yet, a free slot near the key's slot is used. When every nearby slot is taken, the nearby
+     * bucket that has been idle the longest is replaced, and its suppressed messages are added to a
+     * single summary written at the end of the window.
+     *
+     * @param level Message level
+     * @param color Message color
+     * @param key Provided input
+     * @param now The current time in nanoseconds
+     * @return The bucket assigned to the key
+     */
+    private @NotNull Bucket getBucket(@NotNull LogLevel level, @Nullable ConsoleColor color, @NotNull String key, long now) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+
+        int free = -1;
+        int idle = -1;
+        long oldest = Long.MAX_VALUE;
+
+        for (int i = 0; i < PROBES; i++) {
+            int index = (hash + i) & (TABLE_SIZE - 1);
+            Bucket bucket = table.get(index);
+
+            if (bucket == null) {
+                if (free < 0) free = index;
+            }
+            else if (bucket.key.equals(key)) {
+                return bucket;
+            }
+            else if (bucket.tat.get() - now < oldest) {
+                oldest = bucket.tat.get() - now;
+                idle = index;
+            }
+        }
+
+        Bucket created = new Bucket(level, color, key, now);
+        if (free >= 0 && table.compareAndSet(free, null, created)) return created;
+
+        Bucket evicted = table.getAndSet(idle >= 0 ? idle : hash & (TABLE_SIZE - 1), created);
+        if (evicted != null) untracked.addAndGet(evicted.suppressed.getAndSet(0));
+        return created;
+    }
+
+    /**
+     * A utility method used to write the summary of the provided bucket, if any of its messages
+     * have been suppressed since its last summary.
+     *
+     * @param bucket Target bucket
+     */
+    private void summarize(@NotNull Bucket bucket) {
+        int count = bucket.suppressed.getAndSet(0);
+        if (count > 0) console.emit(bucket.level, bucket.color, "Suppressed {0} similar messages: {1}", new Object[] {String.valueOf(count), bucket.key}, false);
+    }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A class used to hold the token bucket of a single key, the bucket is stored as the time at which
+     * the next message would be allowed if the bucket was empty, which allows it to be updated with a
+     * single compare and set.
+     */
+    private static final class Bucket
+    {
+        private final LogLevel level;
+        private final ConsoleColor color;
+        private final String key;
+        private final AtomicLong tat;
+        private final AtomicInteger suppressed = new AtomicInteger();
+
+        private Bucket(@NotNull LogLevel level, @Nullable ConsoleColor color, @NotNull String key, long now) {
+            this.level = level;
+            this.color = color;
+            this.key = key;
+            this.tat = new AtomicLong(now);
+        }
+
+        private boolean tryAcquire(long now, long interval, long window) {
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current, now) + interval;
+
+                if (next - now > window) return false;
+                if (tat.compareAndSet(current, next)) return true;
+            }
+        }
+    }
+}
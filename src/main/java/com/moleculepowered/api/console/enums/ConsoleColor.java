@@ -4,7 +4,9 @@ import org.bukkit.ChatColor;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.stream.Collectors;
 
 public enum ConsoleColor
@@ -34,6 +36,40 @@ public enum ConsoleColor
     UNDERLINE("\u001b[4m", ChatColor.UNDERLINE),
     STRIKETHROUGH("\u001b[29m", ChatColor.STRIKETHROUGH);
 
+    // TRANSLATION TABLES, BUILT ONCE FROM THE VALUES ABOVE
+    private static final String[] CODE_TABLE = new String[128];
+    private static final int[] HEX_TABLE;
+    private static final String[] HEX_CODES;
+    private static final String ESCAPED_SECTION = "\\u00A7";
+    private static final int BUILDER_LIMIT = 8192;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    static {
+        int count = 0;
+        for (ConsoleColor color : values()) {
+            String code = color.consoleCode != null ? color.consoleCode : "";
+            char key = color.bukkitColor.getChar();
+
+            CODE_TABLE[Character.toLowerCase(key)] = code;
+            CODE_TABLE[Character.toUpperCase(key)] = code;
+            if (color.toHexCode() != null) count++;
+        }
+
+        ConsoleColor[] sorted = new ConsoleColor[count];
+        int index = 0;
+        for (ConsoleColor color : values()) {
+            if (color.toHexCode() != null) sorted[index++] = color;
+        }
+        Arrays.sort(sorted, Comparator.comparingInt(color -> Integer.parseInt(color.toHexCode().substring(1), 16)));
+
+        HEX_TABLE = new int[count];
+        HEX_CODES = new String[count];
+        for (int i = 0; i < count; i++) {
+            HEX_TABLE[i] = Integer.parseInt(sorted[i].toHexCode().substring(1), 16);
+            HEX_CODES[i] = sorted[i].consoleCode;
+        }
+    }
+
     // COLOR CODE TYPES
     private final String consoleCode;
     private final String hexCode;
@@ -69,14 +105,6 @@ public enum ConsoleColor
     @Contract(pure = true)
     public String toConsoleColor() { return consoleCode; }
 
-    /**
-     * Used to return the bukkit color code assigned to this {@link ConsoleColor}.
-     *
-     * @return the assigned bukkit color code.
-     */
-    @Contract(pure = true)
-    private String toBukkitCode() { return bukkitColor.toString(); }
-
     /**
      * Used to return the hex color code assigned to this {@link ConsoleColor}.
      *
@@ -92,21 +120,27 @@ public enum ConsoleColor
     /**
      * <p>Used to translate and replace bukkit color codes into valid {@link ConsoleColor}'s.</p>
      *
+     * <p>Both "&amp;" and "&sect;" codes are translated, as well as hex codes matching a {@link ConsoleColor},
+     * such as "#FFAA00" or "&amp;#FFAA00". The input is only scanned once.</p>
+     *
      * @param input Provided input
      * @return A reformatted input that includes {@link ConsoleColor}'s
      */
     public static @NotNull String translateColorCodes(String input) {
         if (input == null) return "";
+        return translate(input, null, false);
+    }
 
-        // NORMALIZE POTENTIAL COLORS
-        input = input.replace("&", "§");
-        input = input.replace("\\u00A7", "§");
-
-        for (ConsoleColor color : values()) {
-            if (isConvertable(color.toBukkitCode(), input)) input = input.replace(color.toBukkitCode(), color.toConsoleColor());
-            if (isConvertable(color.toHexCode(), input)) input = input.replace(color.toHexCode(), color.toConsoleColor());
-        }
-        return input + ConsoleColor.RESET.toConsoleColor();
+    /**
+     * <p>Used to remove every color code that {@link #translateColorCodes(String)} would translate,
+     * this method is used when the output does not support colors.</p>
+     *
+     * @param input Provided input
+     * @return The input without color codes
+     */
+    public static @NotNull String stripColorCodes(String input) {
+        if (input == null) return "";
+        return translate(input, null, true);
     }
 
     /**
@@ -136,20 +170,90 @@ public enum ConsoleColor
      */
     public static @NotNull String wrap(@NotNull ConsoleColor color, @NotNull String input) {
         if (color.toConsoleColor() == null) return input;
-        return translateColorCodes(color.toConsoleColor() + input.replace(" ", " " + color.toConsoleColor()) + RESET.toConsoleColor());
+        return translate(input, color, false);
     }
 
     /**
-     * <p>Used to return whether the provided input contains the provided color code.</p>
+     * A utility method used to translate the provided input in a single pass, every code is looked up
+     * within the precomputed tables and written into a builder reused by the calling thread.
      *
-     * <p>This method features a null check to prevent unnecessary exceptions and it checks
-     * to see if the provided input contains the code, please note that both of these
-     * conditions must be met (return true) in-order for this method to pass its check.</p>
+     * @param input Provided input
+     * @param wrap Optional color reapplied after every space
+     * @param strip whether codes are removed instead of translated
+     * @return The translated input
+     */
+    private static @NotNull String translate(@NotNull String input, ConsoleColor wrap, boolean strip) {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+
+        String wrapCode = wrap != null ? wrap.consoleCode : null;
+        if (wrapCode != null) builder.append(wrapCode);
+
+        int length = input.length();
+        int i = 0;
+
+        while (i < length) {
+            char current = input.charAt(i);
+            int prefix = current == '&' || current == ChatColor.COLOR_CHAR ? 1 : current == '\\' && input.startsWith(ESCAPED_SECTION, i) ? ESCAPED_SECTION.length() : 0;
+
+            // PREFIXED CODES SUCH AS "&a", "§a" OR "&#FFAA00"
+            if (prefix > 0 && i + prefix < length) {
+                char code = input.charAt(i + prefix);
+                String hex = code == '#' ? lookupHex(input, i + prefix + 1) : null;
+                String color = hex == null && code < CODE_TABLE.length ? CODE_TABLE[code] : null;
+
+                if (hex != null || color != null) {
+                    if (!strip) builder.append(hex != null ? hex : color);
+                    i += prefix + (hex != null ? 7 : 1);
+                    continue;
+                }
+            }
+
+            // PLAIN HEX CODES SUCH AS "#FFAA00"
+            if (current == '#') {
+                String hex = lookupHex(input, i + 1);
+
+                if (hex != null) {
+                    if (!strip) builder.append(hex);
+                    i += 7;
+                    continue;
+                }
+            }
+
+            builder.append(current);
+            if (current == ' ' && wrapCode != null) builder.append(wrapCode);
+            i++;
+        }
+
+        if (!strip) {
+            if (wrapCode != null) builder.append(RESET.consoleCode);
+            builder.append(RESET.consoleCode);
+        }
+
+        String result = builder.toString();
+        if (builder.capacity() > BUILDER_LIMIT) BUILDER.remove();
+        return result;
+    }
+
+    /**
+     * A utility method used to return the console code for the six hex digits starting at the
+     * provided index, if the digits do not match a {@link ConsoleColor}, this method will return null.
      *
-     * @param code  Target color code
      * @param input Provided input
-     * @return true if the input is convertable.
+     * @param start The index of the first digit
+     * @return The matching console code or null
      */
-    @Contract(value = "null, _ -> false", pure = true)
-    private static boolean isConvertable(String code, @NotNull String input) { return code != null && input.contains(code); }
+    private static String lookupHex(@NotNull String input, int start) {
+        if (start + 6 > input.length()) return null;
+
+        int value = 0;
+        for (int i = start; i < start + 6; i++) {
+            int digit = Character.digit(input.charAt(i), 16);
+            if (digit < 0) return null;
+            value = (value << 4) | digit;
+        }
+
+        int index = Arrays.binarySearch(HEX_TABLE, value);
+        return index >= 0 ? HEX_CODES[index] : null;
+    }
 }
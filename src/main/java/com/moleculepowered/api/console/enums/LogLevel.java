@@ -0,0 +1,33 @@
+package com.moleculepowered.api.console.enums;
+
+/**
+ * Used to decide which messages the console writes, each level enables itself and every
+ * level declared after it. For example, {@link #INFO} will write standard, success, warning and
+ * error messages while discarding debug messages.
+ *
+ * @see com.moleculepowered.api.console.Console#setLevel(LogLevel)
+ */
+public enum LogLevel
+{
+    /**
+     * When this value is used, every message including debug messages will be written
+     */
+    DEBUG,
+    /**
+     * When this value is used, standard and success messages will be written along with
+     * warnings and errors.
+     */
+    INFO,
+    /**
+     * When this value is used, only warning and error messages will be written
+     */
+    WARN,
+    /**
+     * When this value is used, only error messages will be written
+     */
+    ERROR,
+    /**
+     * When this value is used, no message will be written
+     */
+    OFF
+}
@@ -0,0 +1,25 @@
+package com.moleculepowered.api.console.enums;
+
+/**
+ * Used to decide what the console does with a message when its asynchronous buffer is full
+ *
+ * @see com.moleculepowered.api.console.Console#setAsync(int, OverflowPolicy)
+ */
+public enum OverflowPolicy
+{
+    /**
+     * When this value is used, the calling thread will wait until the background writer
+     * has made space within the buffer, no message will ever be lost.
+     */
+    BLOCK,
+    /**
+     * When this value is used, the oldest message within the buffer is discarded to make space
+     * for the new message, the calling thread will never wait.
+     */
+    DROP_OLDEST,
+    /**
+     * When this value is used, debug messages are discarded while the buffer is full and every
+     * other message will wait until the background writer has made space within the buffer.
+     */
+    DROP_DEBUG
+}
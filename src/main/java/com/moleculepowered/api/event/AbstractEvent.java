@@ -3,10 +3,32 @@ package com.moleculepowered.api.event;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 
+/**
+ * The base class of every event within this API.
+ * <p>
+ * Each event class owns its own {@link HandlerList}, so calling an event only runs the listeners of that
+ * event. Bukkit finds the list of an event through its static <code>getHandlerList()</code> method, every
+ * concrete event must therefore declare one returning {@link #getHandlerList(Class)} for its own class:
+ * <pre>
+ * public static HandlerList getHandlerList() { return getHandlerList(MyEvent.class); }
+ * </pre>
+ * Subclasses of an event that do not declare the method share the list of the nearest parent that does,
+ * the same way Bukkit registers their listeners.
+ */
 public abstract class AbstractEvent extends Event
 {
-    private static final HandlerList HANDLERS_LIST = new HandlerList();
+    private static final ClassValue<HandlerList> HANDLERS = new ClassValue<HandlerList>() {
+        @Override
+        protected HandlerList computeValue(Class<?> type) {
+            for (Class<?> current = type; current != AbstractEvent.class; current = current.getSuperclass()) {
+                if (!declaresHandlerList(current)) continue;
+                return current == type ? new HandlerList() : get(current);
+            }
+            return new HandlerList();
+        }
+    };
 
     public AbstractEvent(boolean async) {
         super(async);
@@ -18,13 +40,36 @@ public abstract class AbstractEvent extends Event
      * @return This event's Handler list
      */
     @Override
-    public HandlerList getHandlers() { return HANDLERS_LIST; }
+    public HandlerList getHandlers() { return HANDLERS.get(getClass()); }
 
     /**
-     * Used to return a list of classes that handle this event
+     * Used to return the list of classes that handle the provided event class, this method is
+     * called by the static <code>getHandlerList()</code> method of each event.
      *
-     * @return This event's Handler list
+     * @param type Target event class
+     * @return The event's Handler list
      */
     @Contract(pure = true)
-    public static HandlerList getHandlerList() { return HANDLERS_LIST; }
+    protected static @NotNull HandlerList getHandlerList(@NotNull Class<? extends AbstractEvent> type) { return HANDLERS.get(type); }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to return whether the provided class declares its own static
+     * <code>getHandlerList()</code> method.
+     *
+     * @param type Target class
+     * @return true if declared
+     */
+    private static boolean declaresHandlerList(@NotNull Class<?> type) {
+        try {
+            type.getDeclaredMethod("getHandlerList");
+            return true;
+        }
+        catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
 }
@@ -5,6 +5,7 @@ import com.moleculepowered.api.updater.Updater;
 import com.moleculepowered.api.updater.abstraction.AbstractProvider;
 import com.moleculepowered.api.updater.enums.UpdateResult;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 
 import java.util.ArrayList;
 
@@ -12,12 +13,17 @@ public class UpdateCompleteEvent extends AbstractEvent
 {
     private final Updater.RemoteArtifact artifact;
     private final Updater updater;
+    private final UpdateResult result;
+    private final AbstractProvider provider;
+    private ArrayList<Player> audience;
 
     public UpdateCompleteEvent(boolean async, Updater updater, Updater.RemoteArtifact artifact) {
         super(async);
 
         this.updater = updater;
         this.artifact = artifact;
+        this.result = updater.getResult();
+        this.provider = updater.getProvider();
     }
 
     public UpdateCompleteEvent(Updater updater, Updater.RemoteArtifact artifact) {
@@ -25,16 +31,19 @@ public class UpdateCompleteEvent extends AbstractEvent
 
         this.updater = updater;
         this.artifact = artifact;
+        this.result = updater.getResult();
+        this.provider = updater.getProvider();
     }
 
     /**
      * Used to return the final result that the updater produced, please note that by default
      * this method will return {@link com.moleculepowered.api.updater.enums.UpdateResult#UNKNOWN}
-     * if the update could not find a cause for this completion event
+     * if the update could not find a cause for this completion event. The result is captured when
+     * this event is created, so it will not change if the updater checks again before this event is called.
      *
      * @return The final update result
      */
-    public UpdateResult getResult() { return updater.getResult(); }
+    public UpdateResult getResult() { return result; }
 
     /**
      * Used to return the processed version for the latest release, As a processed number, this value
@@ -53,21 +62,47 @@ public class UpdateCompleteEvent extends AbstractEvent
      */
     public String getReleaseTag() { return artifact.getVersionType(); }
 
+    /**
+     * Used to return the artifact containing the latest release
+     *
+     * @return The latest artifact
+     */
+    public Updater.RemoteArtifact getArtifact() { return artifact; }
+
+    /**
+     * Used to return the updater that called this event
+     *
+     * @return The parent updater
+     */
+    public Updater getUpdater() { return updater; }
+
     /**
      * Used to return a list of players that this event can notify.
      * <p>
      * Please note that this method doesnt not account for offline players or null players
      * and therefore has a chance of throwing an exception, please check for these conditions
      * prior to editing or preforming tasks on these audience members.
+     * <p>
+     * The list is created once per event, so every listener receives the same list.
      *
      * @return A list of players
      */
-    public ArrayList<Player> getAudienceList() { return updater.getAudienceList(); }
+    public ArrayList<Player> getAudienceList() {
+        if (audience == null) audience = updater.getAudienceList();
+        return audience;
+    }
 
     /**
      * Used to return the provider that contains the latest release
      *
      * @return The provider containing the latest release
      */
-    public AbstractProvider getProvider() { return updater.getProvider(); }
+    public AbstractProvider getProvider() { return provider; }
+
+    /**
+     * Used to return a list of classes that handle this event
+     *
+     * @return This event's Handler list
+     */
+    public static HandlerList getHandlerList() { return getHandlerList(UpdateCompleteEvent.class); }
 }
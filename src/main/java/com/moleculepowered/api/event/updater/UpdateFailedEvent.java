@@ -3,11 +3,13 @@ package com.moleculepowered.api.event.updater;
 import com.moleculepowered.api.event.AbstractEvent;
 import com.moleculepowered.api.updater.Updater;
 import com.moleculepowered.api.updater.enums.UpdateResult;
+import org.bukkit.event.HandlerList;
 
 public class UpdateFailedEvent extends AbstractEvent
 {
     // CLASS OBJECTS
     private final Updater updater;
+    private final UpdateResult result;
 
     /*
     CONSTRUCTOR
@@ -16,19 +18,36 @@ public class UpdateFailedEvent extends AbstractEvent
     public UpdateFailedEvent(boolean async, Updater updater) {
         super(async);
         this.updater = updater;
+        this.result = updater.getResult();
     }
 
     public UpdateFailedEvent(Updater updater) {
         super(false);
         this.updater = updater;
+        this.result = updater.getResult();
     }
 
     /**
      * Used to return the final result that the updater produced, please note that by default
      * this method will return {@link com.moleculepowered.api.updater.enums.UpdateResult#UNKNOWN}
-     * if the update could not find a cause for this failure event
+     * if the update could not find a cause for this failure event. The result is captured when
+     * this event is created, so it will not change if the updater checks again before this event is called.
      *
      * @return The final update result
      */
-    public UpdateResult getResult() { return updater.getResult(); }
+    public UpdateResult getResult() { return result; }
+
+    /**
+     * Used to return the updater that called this event
+     *
+     * @return The parent updater
+     */
+    public Updater getUpdater() { return updater; }
+
+    /**
+     * Used to return a list of classes that handle this event
+     *
+     * @return This event's Handler list
+     */
+    public static HandlerList getHandlerList() { return getHandlerList(UpdateFailedEvent.class); }
 }
@@ -0,0 +1,44 @@
+package com.moleculepowered.api.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A class used to count occurrences from any amount of threads, increments are spread across
+ * internal cells so threads counting at the same time do not contend on a single value.
+ *
+ * @see MetricRegistry#counter(String)
+ */
+public final class Counter
+{
+    private final LongAdder count = new LongAdder();
+
+    Counter() {}
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to add one to this counter
+     */
+    public void increment() { count.increment(); }
+
+    /**
+     * Used to add the provided amount to this counter
+     *
+     * @param amount Target amount
+     */
+    public void add(long amount) { count.add(amount); }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the current count, please note that counts added at the same time this
+     * method is called may not be included.
+     *
+     * @return The current count
+     */
+    public long get() { return count.sum(); }
+}
@@ -0,0 +1,109 @@
+package com.moleculepowered.api.metrics;
+
+import org.apache.commons.lang.Validate;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A class used to record the distribution of values such as latencies from any amount of threads.
+ * <p>
+ * Values are counted within buckets whose bounds double, bucket <code>i</code> holds the values
+ * below <code>2^i</code>, so recording a value only increments two counters and the memory used
+ * never grows. Percentiles are therefore estimates, each is reported as the upper bound of the bucket
+ * it falls into, capped at the largest value recorded.
+ *
+ * @see MetricRegistry#histogram(String)
+ */
+public final class Histogram
+{
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram() {
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to record the provided value, negative values are recorded as 0
+     *
+     * @param value Target value
+     */
+    public void record(long value) {
+        long target = Math.max(0, value);
+
+        buckets[BUCKETS - Long.numberOfLeadingZeros(target)].increment();
+        count.increment();
+        sum.add(target);
+        max.accumulate(target);
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the amount of values recorded
+     *
+     * @return The value count
+     */
+    public long getCount() { return count.sum(); }
+
+    /**
+     * Used to return the sum of every value recorded
+     *
+     * @return The value sum
+     */
+    public long getSum() { return sum.sum(); }
+
+    /**
+     * Used to return the largest value recorded
+     *
+     * @return The max value
+     */
+    public long getMax() { return max.get(); }
+
+    /**
+     * Used to return the average of every value recorded, if no value has been recorded this
+     * method will return 0.
+     *
+     * @return The mean value
+     */
+    public double getMean() {
+        long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * Used to return an estimate of the value below which the provided fraction of values fall,
+     * for example, 0.95 will return the 95th percentile.
+     *
+     * @param quantile A fraction between 0 and 1
+     * @return The estimated percentile
+     */
+    public long getPercentile(double quantile) {
+        Validate.isTrue(quantile >= 0 && quantile <= 1, "The quantile must be between 0 and 1");
+
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) total += counts[i] = buckets[i].sum();
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) return Math.min(i == 0 ? 0 : (1L << i) - 1, max.get());
+        }
+        return max.get();
+    }
+}
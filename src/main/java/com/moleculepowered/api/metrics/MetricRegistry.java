@@ -0,0 +1,284 @@
+package com.moleculepowered.api.metrics;
+
+import org.apache.commons.lang.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A class used to hold a named group of metrics and expose them through JMX.
+ * <p>
+ * Metrics are created on first use and looked up without locking, the metric objects themselves are
+ * updated through {@link java.util.concurrent.atomic.LongAdder}s, so recording a metric from many threads
+ * at the same time never blocks. Once registered, every metric is readable as an attribute of a single
+ * MBean using any JMX client such as JConsole or VisualVM. Counters and gauges are exposed under their
+ * own name, while each histogram is exposed as its count, mean, max and 50th, 95th and 99th percentiles,
+ * for example <code>connectTimeP95</code>.
+ */
+public final class MetricRegistry implements DynamicMBean
+{
+    private static final String[] HISTOGRAM_SUFFIXES = {"Count", "Mean", "Max", "P50", "P95", "P99"};
+    private static final ConcurrentHashMap<ObjectName, MetricRegistry> REGISTERED = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Object> metrics = new ConcurrentHashMap<>();
+    private final String description;
+    private final Logger logger;
+    private volatile ObjectName name;
+
+    /**
+     * Creates a new registry with the provided description, the description is shown by
+     * JMX clients once the registry is registered.
+     *
+     * @param description Registry description
+     */
+    public MetricRegistry(@NotNull String description) { this(description, Logger.getLogger(MetricRegistry.class.getName())); }
+
+    /**
+     * Creates a new registry with the provided description, errors encountered while removing
+     * the registry from JMX are reported to the provided logger, such as a plugin's logger.
+     *
+     * @param description Registry description
+     * @param logger Target logger
+     */
+    public MetricRegistry(@NotNull String description, @NotNull Logger logger) {
+        this.description = description;
+        this.logger = logger;
+    }
+
+    /*
+    METRICS
+     */
+
+    /**
+     * Used to return the counter with the provided name, creating it if it does not exist yet
+     *
+     * @param name Metric name
+     * @return The named counter
+     */
+    public @NotNull Counter counter(@NotNull String name) { return get(name, Counter.class); }
+
+    /**
+     * Used to return the histogram with the provided name, creating it if it does not exist yet
+     *
+     * @param name Metric name
+     * @return The named histogram
+     */
+    public @NotNull Histogram histogram(@NotNull String name) { return get(name, Histogram.class); }
+
+    /**
+     * Used to add a gauge that reads its value from the provided supplier every time it is read,
+     * an existing gauge with the same name is replaced.
+     *
+     * @param name Metric name
+     * @param supplier Value supplier
+     */
+    public void gauge(@NotNull String name, @NotNull LongSupplier supplier) {
+        Validate.notNull(supplier, "The gauge supplier cannot be null");
+        Object previous = metrics.get(name);
+        Validate.isTrue(previous == null || previous instanceof LongSupplier, "The metric " + name + " is not a gauge");
+        metrics.put(name, supplier);
+    }
+
+    /**
+     * Used to return every metric within this registry, keyed by its name
+     *
+     * @return The registered metrics
+     */
+    public @NotNull Map<String, Object> getMetrics() { return Collections.unmodifiableMap(metrics); }
+
+    /*
+    JMX REGISTRATION
+     */
+
+    /**
+     * Used to register this registry with the platform MBean server under the provided name, if another
+     * registry is already registered under the name, such as one left behind by a plugin that was reloaded,
+     * it will be replaced.
+     *
+     * @param name Target object name
+     * @return true if registered
+     */
+    public synchronized boolean register(@NotNull ObjectName name) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        unregister();
+
+        try {
+            try {
+                server.registerMBean(this, name);
+            }
+            catch (InstanceAlreadyExistsException ex) {
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+            REGISTERED.put(name, this);
+            this.name = name;
+            return true;
+        }
+        catch (JMException | SecurityException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Used to remove this registry from the platform MBean server, if it is registered and has
+     * not since been replaced by another registry.
+     */
+    public synchronized void unregister() {
+        ObjectName current = name;
+        name = null;
+        if (current == null || !REGISTERED.remove(current, this)) return;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(current);
+        }
+        catch (InstanceNotFoundException ignored) {}
+        catch (JMException | SecurityException ex) {
+            logger.log(Level.WARNING, "Unable to unregister " + current, ex);
+        }
+    }
+
+    /**
+     * Used to return the name this registry is registered under, if it is not registered
+     * this method will return null.
+     *
+     * @return The object name
+     */
+    public @Nullable ObjectName getObjectName() { return name; }
+
+    /*
+    DYNAMIC MBEAN
+     */
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Object metric = metrics.get(attribute);
+        if (metric instanceof Counter) return ((Counter) metric).get();
+        if (metric instanceof LongSupplier) return ((LongSupplier) metric).getAsLong();
+
+        for (String suffix : HISTOGRAM_SUFFIXES) {
+            if (!attribute.endsWith(suffix)) continue;
+
+            Object target = metrics.get(attribute.substring(0, attribute.length() - suffix.length()));
+            if (target instanceof Histogram) return read((Histogram) target, suffix);
+        }
+        throw new AttributeNotFoundException(attribute);
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("The metric " + attribute.getName() + " is read only");
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            }
+            catch (AttributeNotFoundException ignored) {}
+        }
+        return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) { return new AttributeList(); }
+
+    @Override
+    public Object invoke(String action, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(action), "The metric registry has no operations");
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+        List<String> names = new ArrayList<>(metrics.keySet());
+        Collections.sort(names);
+
+        for (String key : names) {
+            Object metric = metrics.get(key);
+
+            if (metric instanceof Histogram) {
+                for (String suffix : HISTOGRAM_SUFFIXES) {
+                    String type = suffix.equals("Mean") ? "double" : "long";
+                    attributes.add(new MBeanAttributeInfo(key + suffix, type, key + " " + suffix.toLowerCase(), true, false, false));
+                }
+            }
+            else if (metric != null) {
+                attributes.add(new MBeanAttributeInfo(key, "long", key, true, false, false));
+            }
+        }
+
+        return new MBeanInfo(getClass().getName(), description, attributes.toArray(new MBeanAttributeInfo[0]),
+                null, new MBeanOperationInfo[0], null);
+    }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to return the metric with the provided name and type, creating it
+     * if it does not exist yet.
+     *
+     * @param name Metric name
+     * @param type Metric type
+     * @return The named metric
+     */
+    private <T> @NotNull T get(@NotNull String name, @NotNull Class<T> type) {
+        Validate.notNull(name, "The metric name cannot be null");
+
+        Object metric = metrics.get(name);
+        if (metric == null) metric = metrics.computeIfAbsent(name, key -> type == Counter.class ? new Counter() : new Histogram());
+
+        Validate.isTrue(type.isInstance(metric), "The metric " + name + " is not a " + type.getSimpleName().toLowerCase());
+        return type.cast(metric);
+    }
+
+    /**
+     * A utility method used to read a single value from the provided histogram
+     *
+     * @param histogram Target histogram
+     * @param suffix The attribute suffix
+     * @return The histogram value
+     */
+    private static @NotNull Object read(@NotNull Histogram histogram, @NotNull String suffix) {
+        switch (suffix) {
+            case "Count":
+                return histogram.getCount();
+            case "Mean":
+                return histogram.getMean();
+            case "Max":
+                return histogram.getMax();
+            case "P50":
+                return histogram.getPercentile(0.5);
+            case "P95":
+                return histogram.getPercentile(0.95);
+            default:
+                return histogram.getPercentile(0.99);
+        }
+    }
+}
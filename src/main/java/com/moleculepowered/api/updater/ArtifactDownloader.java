@@ -0,0 +1,372 @@
+package com.moleculepowered.api.updater;
+
+import com.moleculepowered.api.console.Console;
+import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.HttpResponse;
+import com.moleculepowered.api.updater.abstraction.HttpTransport;
+import com.moleculepowered.api.util.Util;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A class used to download the file supplied by a provider into the server's update folder,
+ * Bukkit will replace the plugin's jar with that file the next time the server starts.
+ * <p>
+ * The file is streamed through a fixed size buffer into a partial file inside the update folder,
+ * and it is hashed while it is being written, so the memory used does not depend on the size of the
+ * file. Once the file has been verified against the provider's checksum, it is moved into place, which
+ * means the update folder never holds a partial or unverified jar.
+ * <p>
+ * When a download fails, the partial file is kept along with a small sidecar recording the link, the
+ * validator returned by the remote server and the amount of bytes received. The next attempt will ask
+ * the remote server for the remaining bytes using a <code>Range</code> request, the request is made
+ * conditional with <code>If-Range</code> so the download restarts from the beginning when the file
+ * has changed in the meantime.
+ */
+final class ArtifactDownloader
+{
+    private static final int BUFFER_SIZE = 65536;
+    private static final int HTTP_PARTIAL_CONTENT = 206;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+    private static final long SIDECAR_INTERVAL = 1048576L;
+    private static final String SHA_256 = "SHA-256";
+
+    private final File updateFolder;
+    private final String fileName;
+    private volatile String checksum;
+
+    /**
+     * Creates a new downloader that will install files into the provided folder, using the
+     * provided file name. The file name must match the name of the plugin's jar, otherwise
+     * Bukkit will not replace the jar.
+     *
+     * @param updateFolder Target folder
+     * @param fileName Target file name
+     */
+    ArtifactDownloader(@NotNull File updateFolder, @NotNull String fileName) {
+        this.updateFolder = updateFolder;
+        this.fileName = fileName;
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to download the file supplied by the provided provider and install it into the update folder,
+     * if a previous attempt left a partial file for the same link, the download will resume from it.
+     *
+     * @param provider Target provider
+     * @return The installed file
+     * @throws FileNotFoundException thrown when the provider does not supply a file
+     * @throws IOException thrown when the file could not be downloaded, verified or installed
+     */
+    @NotNull File download(@NotNull AbstractProvider provider) throws IOException {
+        String link = provider.getArtifactLink();
+        if (link == null) throw new FileNotFoundException(provider.getProviderName() + " does not supply a downloadable file");
+        if (!updateFolder.isDirectory() && !updateFolder.mkdirs()) throw new IOException("Unable to create " + updateFolder);
+
+        String expected = provider.getArtifactChecksum();
+        MessageDigest sha256 = createDigest(SHA_256);
+        MessageDigest verifier = expected == null || SHA_256.equalsIgnoreCase(provider.getChecksumAlgorithm()) ? null : createDigest(provider.getChecksumAlgorithm());
+
+        Path part = new File(updateFolder, fileName + ".part").toPath();
+        Path sidecar = new File(updateFolder, fileName + ".part.meta").toPath();
+        Path target = new File(updateFolder, fileName).toPath();
+
+        transfer(link, part, sidecar, sha256, verifier, true);
+
+        String actual = Util.toHex(verifier != null ? verifier.digest() : sha256.digest());
+        String sum = verifier != null ? Util.toHex(sha256.digest()) : actual;
+
+        // A CORRUPTED FILE CANNOT BE RESUMED, THE NEXT ATTEMPT MUST START OVER
+        if (expected != null && !expected.equalsIgnoreCase(actual)) {
+            discard(part, sidecar);
+            throw new IOException(Util.format("Checksum mismatch for {0}: expected {1} but received {2}", link, expected, actual));
+        }
+
+        move(part, target);
+        Files.deleteIfExists(sidecar);
+        checksum = sum;
+        return target.toFile();
+    }
+
+    /**
+     * Used to stream the file at the provided link into the partial file, every chunk is added to the
+     * provided digests before it is written. If the sidecar describes a partial file for the same link,
+     * only the remaining bytes are requested, and the bytes already received are hashed from disk.
+     *
+     * @param link Target link
+     * @param part The partial file
+     * @param sidecar The partial file's sidecar
+     * @param digest Primary digest
+     * @param verifier Optional digest used to verify the file
+     * @param retry whether a rejected range may be retried from the beginning
+     * @throws IOException thrown when the file could not be transferred
+     */
+    private void transfer(@NotNull String link, @NotNull Path part, @NotNull Path sidecar, @NotNull MessageDigest digest,
+                          @Nullable MessageDigest verifier, boolean retry) throws IOException {
+        Partial partial = Partial.read(sidecar, link, part);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("User-Agent", "BasicAPI/" + getClass().getSimpleName());
+
+        if (partial != null) {
+            headers.put("Range", "bytes=" + partial.received + "-");
+            headers.put("If-Range", partial.validator);
+        }
+
+        try (HttpResponse response = HttpTransport.get(new URL(link), headers)) {
+            int status = response.getStatus();
+
+            boolean resumed = partial != null && status == HTTP_PARTIAL_CONTENT && isRangeFrom(response.getHeader("Content-Range"), partial.received);
+
+            // THE RECORDED RANGE IS NO LONGER VALID OR WAS NOT HONOURED, DISCARD IT AND START OVER
+            if (partial != null && retry && (status == HTTP_RANGE_NOT_SATISFIABLE || (status == HTTP_PARTIAL_CONTENT && !resumed))) {
+                discard(part, sidecar);
+                response.close();
+                transfer(link, part, sidecar, digest, verifier, false);
+                return;
+            }
+
+            if (!resumed && status != HttpURLConnection.HTTP_OK) {
+                throw new IOException(Util.format("Unable to download {0}: Response code {1}", link, String.valueOf(status)));
+            }
+
+            String validator = resumed ? partial.validator : getValidator(response);
+            long position = resumed ? partial.received : 0;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+            try (ReadableByteChannel in = Channels.newChannel(response.getBody());
+                 FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+                out.truncate(position);
+                if (resumed) {
+                    hashExisting(out, position, buffer, digest, verifier);
+                    Console.debug("Resuming download of {0} from byte {1}", link, String.valueOf(position));
+                }
+
+                Partial.write(sidecar, link, validator, position);
+                long recorded = position;
+
+                try {
+                    while (in.read(buffer) != -1) {
+                        buffer.flip();
+                        update(digest, buffer);
+                        if (verifier != null) update(verifier, buffer);
+                        while (buffer.hasRemaining()) position += out.write(buffer, position);
+                        buffer.clear();
+
+                        if (position - recorded >= SIDECAR_INTERVAL) {
+                            out.force(false);
+                            Partial.write(sidecar, link, validator, position);
+                            recorded = position;
+                        }
+                    }
+                    out.force(true);
+                }
+                finally {
+                    Partial.write(sidecar, link, validator, position);
+                }
+            }
+        }
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the SHA-256 checksum of the last file this downloader installed
+     *
+     * @return The hexadecimal checksum
+     */
+    @Nullable String getChecksum() { return checksum; }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to add the bytes already written to a partial file to the provided digests
+     *
+     * @param channel The partial file
+     * @param length The amount of bytes to read
+     * @param buffer The buffer used to read the file
+     * @param digest Primary digest
+     * @param verifier Optional digest used to verify the file
+     * @throws IOException thrown when the file could not be read
+     */
+    private static void hashExisting(@NotNull FileChannel channel, long length, @NotNull ByteBuffer buffer, @NotNull MessageDigest digest,
+                                     @Nullable MessageDigest verifier) throws IOException {
+        long position = 0;
+
+        while (position < length) {
+            buffer.limit((int) Math.min(buffer.capacity(), length - position));
+            int read = channel.read(buffer, position);
+            if (read == -1) throw new IOException("The partial file is shorter than recorded");
+
+            buffer.flip();
+            update(digest, buffer);
+            if (verifier != null) update(verifier, buffer);
+            buffer.clear();
+            position += read;
+        }
+    }
+
+    /**
+     * A utility method used to add the remaining bytes of the provided buffer to the provided digest
+     * without consuming them.
+     *
+     * @param digest Target digest
+     * @param buffer Target buffer
+     */
+    private static void update(@NotNull MessageDigest digest, @NotNull ByteBuffer buffer) {
+        int position = buffer.position();
+        digest.update(buffer);
+        buffer.position(position);
+    }
+
+    /**
+     * A utility method used to return the validator that identifies the version of the file the remote
+     * server returned, weak entity tags cannot be used within <code>If-Range</code>, so the last modified
+     * date is used instead. If neither is available, this method will return null and the download
+     * cannot be resumed.
+     *
+     * @param response Target response
+     * @return The validator
+     */
+    private static @Nullable String getValidator(@NotNull HttpResponse response) {
+        String entityTag = response.getHeader("ETag");
+        return entityTag != null && !entityTag.startsWith("W/") ? entityTag : response.getHeader("Last-Modified");
+    }
+
+    /**
+     * A utility method used to return whether the provided content range starts at the provided byte
+     *
+     * @param contentRange Target header
+     * @param start The expected first byte
+     * @return true if the range starts at the byte
+     */
+    private static boolean isRangeFrom(@Nullable String contentRange, long start) {
+        return contentRange != null && contentRange.trim().startsWith("bytes " + start + "-");
+    }
+
+    /**
+     * A utility method used to move the provided file into place, if the file system does not
+     * support atomic moves, the file will be replaced instead.
+     *
+     * @param source Source file
+     * @param target Target file
+     * @throws IOException thrown when the file could not be moved
+     */
+    private static void move(@NotNull Path source, @NotNull Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void discard(@NotNull Path part, @NotNull Path sidecar) throws IOException {
+        Files.deleteIfExists(part);
+        Files.deleteIfExists(sidecar);
+    }
+
+    private static @NotNull MessageDigest createDigest(@NotNull String algorithm) throws IOException {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IOException("Unsupported checksum algorithm: " + algorithm, ex);
+        }
+    }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A class used to represent the sidecar of a partial file, it records the link the file was
+     * downloaded from, the validator returned with it and the amount of bytes received.
+     */
+    private static final class Partial
+    {
+        private final String validator;
+        private final long received;
+
+        private Partial(@NotNull String validator, long received) {
+            this.validator = validator;
+            this.received = received;
+        }
+
+        /**
+         * Used to read the sidecar of a partial file, this method will return null when the partial
+         * file cannot be resumed, either because it was downloaded from another link, it has no
+         * validator or the file is shorter than recorded.
+         *
+         * @param sidecar Target sidecar
+         * @param link The link being downloaded
+         * @param part The partial file
+         * @return The partial download or null
+         */
+        private static @Nullable Partial read(@NotNull Path sidecar, @NotNull String link, @NotNull Path part) {
+            if (!Files.isRegularFile(sidecar) || !Files.isRegularFile(part)) return null;
+
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(sidecar)))) {
+                String recordedLink = in.readUTF();
+                String validator = in.readBoolean() ? in.readUTF() : null;
+                long received = in.readLong();
+
+                if (!recordedLink.equals(link) || validator == null || received <= 0 || Files.size(part) < received) return null;
+                return new Partial(validator, received);
+            }
+            catch (IOException ex) {
+                Console.debugWarn("Unable to read download sidecar {0}: {1}", sidecar.getFileName(), ex.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * Used to record the progress of a partial file within its sidecar
+         *
+         * @param sidecar Target sidecar
+         * @param link The link being downloaded
+         * @param validator The validator returned with the file
+         * @param received The amount of bytes received
+         * @throws IOException thrown when the sidecar could not be written
+         */
+        private static void write(@NotNull Path sidecar, @NotNull String link, @Nullable String validator, long received) throws IOException {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(sidecar)))) {
+                out.writeUTF(link);
+                out.writeBoolean(validator != null);
+                if (validator != null) out.writeUTF(validator);
+                out.writeLong(received);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.moleculepowered.api.updater;
+
+import com.moleculepowered.api.updater.enums.CircuitState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A class used to stop an {@link Updater} from contacting a provider that keeps failing.
+ * <p>
+ * Once a provider fails the configured amount of checks in a row, its circuit is opened and the provider
+ * is skipped until its backoff has passed. The backoff doubles every time the circuit is opened again, up to
+ * its max, and a random jitter of up to half the backoff is removed so that servers sharing the same provider
+ * do not all retry at the same moment. Once the backoff has passed, a single check is allowed to contact the
+ * provider, closing the circuit if it succeeds.
+ *
+ * @see Updater#getCircuitBreaker(com.moleculepowered.api.updater.abstraction.AbstractProvider)
+ */
+public final class CircuitBreaker
+{
+    private final int threshold;
+    private final long backoff;
+    private final long maxBackoff;
+    private CircuitState state = CircuitState.CLOSED;
+    private int failures;
+    private int openings;
+    private long retryAt;
+    private long lastFailure;
+
+    /**
+     * Creates a new closed circuit breaker
+     *
+     * @param threshold The amount of failures in a row that open the circuit
+     * @param backoff The first backoff in milliseconds
+     * @param maxBackoff The max backoff in milliseconds
+     */
+    CircuitBreaker(int threshold, long backoff, long maxBackoff) {
+        this.threshold = threshold;
+        this.backoff = backoff;
+        this.maxBackoff = Math.max(backoff, maxBackoff);
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to return whether the provider may be contacted, if the circuit is open and its backoff has
+     * passed, the circuit is half opened and only the caller of this method may contact the provider.
+     *
+     * @return true if the provider may be contacted
+     */
+    synchronized boolean tryAcquire() {
+        if (state == CircuitState.CLOSED) return true;
+        if (state == CircuitState.HALF_OPEN || System.currentTimeMillis() < retryAt) return false;
+
+        state = CircuitState.HALF_OPEN;
+        return true;
+    }
+
+    /**
+     * Used to give back a call acquired with {@link #tryAcquire()} that did not contact the provider,
+     * a half open circuit is opened again without extending its backoff.
+     */
+    synchronized void release() {
+        if (state == CircuitState.HALF_OPEN) state = CircuitState.OPEN;
+    }
+
+    /**
+     * Used to record a check that reached the provider, closing the circuit
+     */
+    synchronized void recordSuccess() {
+        state = CircuitState.CLOSED;
+        failures = 0;
+        openings = 0;
+        retryAt = 0;
+    }
+
+    /**
+     * Used to record a check that failed to reach the provider, opening the circuit once the
+     * threshold is reached or straight away if the circuit was half open.
+     */
+    synchronized void recordFailure() {
+        long now = System.currentTimeMillis();
+        failures++;
+        lastFailure = now;
+
+        if (state != CircuitState.HALF_OPEN && (state == CircuitState.OPEN || failures < threshold)) return;
+
+        long delay = backoff << Math.min(openings++, 30);
+        if (delay <= 0 || delay > maxBackoff) delay = maxBackoff;
+
+        state = CircuitState.OPEN;
+        retryAt = now + delay - ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the current state of the circuit
+     *
+     * @return The circuit state
+     */
+    public synchronized @NotNull CircuitState getState() { return state; }
+
+    /**
+     * Used to return the amount of checks in a row that failed to reach the provider
+     *
+     * @return The consecutive failures
+     */
+    public synchronized int getFailures() { return failures; }
+
+    /**
+     * Used to return the time in milliseconds at which an open circuit will allow the provider
+     * to be contacted again, if the circuit is closed this method will return 0.
+     *
+     * @return The retry time
+     */
+    public synchronized long getRetryAt() { return state == CircuitState.CLOSED ? 0 : retryAt; }
+
+    /**
+     * Used to return the time in milliseconds of the last check that failed to reach the provider,
+     * if no check has failed this method will return 0.
+     *
+     * @return The last failure time
+     */
+    public synchronized long getLastFailure() { return lastFailure; }
+
+    /**
+     * Used to return whether the provider is currently being skipped
+     *
+     * @return true if open
+     */
+    public boolean isOpen() { return getState() != CircuitState.CLOSED; }
+}
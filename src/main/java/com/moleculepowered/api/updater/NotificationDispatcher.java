@@ -0,0 +1,226 @@
+package com.moleculepowered.api.updater;
+
+import com.moleculepowered.api.util.Util;
+import org.apache.commons.lang.Validate;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class used to notify an audience that an update is available without sending every message
+ * within a single tick.
+ * <p>
+ * Messages are sent on the main thread in batches, a batch of players is notified each tick until the
+ * whole audience has been notified. The message is rendered once for each locale found within the
+ * audience, every player sharing a locale receives the same rendered message. Each message may include
+ * the following parameters:
+ * <ul>
+ *     <li><code>{0}</code> The latest version</li>
+ *     <li><code>{1}</code> The release tag of the latest version</li>
+ *     <li><code>{2}</code> The plugin name</li>
+ *     <li><code>{3}</code> The installed version</li>
+ * </ul>
+ *
+ * @see Updater#setNotifier(NotificationDispatcher)
+ */
+public final class NotificationDispatcher
+{
+    private static final String DEFAULT_MESSAGE = "&e{2} &7version &e{0} &7is now available, you are running &e{3}";
+
+    private final Plugin plugin;
+    private final ConcurrentHashMap<String, String> messages = new ConcurrentHashMap<>();
+    private volatile String message;
+    private volatile int batchSize;
+
+    /**
+     * Creates a new dispatcher that notifies 20 players per tick using the default message
+     *
+     * @param plugin Parent plugin
+     */
+    public NotificationDispatcher(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+        this.message = DEFAULT_MESSAGE;
+        this.batchSize = 20;
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to notify the provided audience of the provided artifact, the audience is copied when
+     * this method is called, so the collection may change afterwards. This method may be called
+     * from any thread, messages are always sent on the main thread.
+     *
+     * @param artifact The latest artifact
+     * @param audience Target audience
+     * @return The task sending the messages
+     */
+    public @NotNull BukkitTask dispatch(@NotNull Updater.RemoteArtifact artifact, @NotNull Collection<? extends Player> audience) {
+        Validate.notNull(artifact, "An error occurred whilst trying to dispatch a null artifact");
+        Validate.notNull(audience, "An error occurred whilst trying to dispatch to a null audience");
+
+        Object[] param = {artifact.getVersion(), artifact.getVersionType(), plugin.getName(), plugin.getDescription().getVersion()};
+        return new Delivery(audience.toArray(new Player[0]), param, batchSize).runTaskTimer(plugin, 0, 1);
+    }
+
+    /*
+    SETTER METHODS
+     */
+
+    /**
+     * Used to set the message sent to players whose locale has no message of its own, the message
+     * accepts "&amp;" color codes and the parameters listed within {@link NotificationDispatcher}.
+     *
+     * @param message Target message
+     * @return An instance of this dispatcher
+     */
+    public NotificationDispatcher setMessage(@NotNull String message) {
+        Validate.notNull(message, "The notification message cannot be null");
+        this.message = message;
+        return this;
+    }
+
+    /**
+     * Used to set the message sent to players using the provided locale, such as "en_us" or "de_de". A locale
+     * containing only a language, such as "de", is used for every player speaking that language that does not
+     * have a message for their exact locale.
+     *
+     * @param locale Target locale
+     * @param message Target message
+     * @return An instance of this dispatcher
+     */
+    public NotificationDispatcher setMessage(@NotNull String locale, @NotNull String message) {
+        Validate.notNull(message, "The notification message cannot be null");
+        this.messages.put(normalize(locale), message);
+        return this;
+    }
+
+    /**
+     * Used to set the amount of players notified each tick, Please note that by default,
+     * 20 players are notified each tick.
+     *
+     * @param size The amount of players per tick
+     * @return An instance of this dispatcher
+     */
+    public NotificationDispatcher setBatchSize(int size) {
+        Validate.isTrue(size > 0, "The batch size must be greater than 0");
+        this.batchSize = size;
+        return this;
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the message sent to players whose locale has no message of its own
+     *
+     * @return The default message
+     */
+    public @NotNull String getMessage() { return message; }
+
+    /**
+     * Used to return the message that will be sent to players using the provided locale
+     *
+     * @param locale Target locale
+     * @return The locale's message
+     */
+    public @NotNull String getMessage(@Nullable String locale) {
+        if (locale == null || messages.isEmpty()) return message;
+
+        String key = normalize(locale);
+        String current = messages.get(key);
+        if (current != null) return current;
+
+        int separator = key.indexOf('_');
+        if (separator > 0) current = messages.get(key.substring(0, separator));
+        return current != null ? current : message;
+    }
+
+    /**
+     * Used to return the amount of players notified each tick
+     *
+     * @return The batch size
+     */
+    public int getBatchSize() { return batchSize; }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to convert a locale into the form used as a key, for example
+     * "en-US" becomes "en_us".
+     *
+     * @param locale Target locale
+     * @return The normalized locale
+     */
+    private static @NotNull String normalize(@NotNull String locale) {
+        return locale.trim().replace('-', '_').toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A utility method used to return the locale of the provided player, servers that do not
+     * report the locale are treated as having no locale.
+     *
+     * @param player Target player
+     * @return The player's locale
+     */
+    private static @Nullable String getLocale(@NotNull Player player) {
+        try {
+            return player.spigot().getLocale();
+        }
+        catch (RuntimeException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A class used to send a single notification to its audience, a batch of players is notified
+     * each time it runs and it cancels itself once every player has been notified.
+     */
+    private final class Delivery extends BukkitRunnable
+    {
+        private final Player[] players;
+        private final Object[] param;
+        private final int batchSize;
+        private final Map<String, String> rendered = new HashMap<>();
+        private int index;
+
+        private Delivery(@NotNull Player[] players, @NotNull Object[] param, int batchSize) {
+            this.players = players;
+            this.param = param;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void run() {
+            int end = Math.min(players.length, index + batchSize);
+
+            for (; index < end; index++) {
+                Player player = players[index];
+                players[index] = null;
+                if (player == null || !player.isOnline()) continue;
+
+                String template = getMessage(getLocale(player));
+                player.sendMessage(rendered.computeIfAbsent(template, key -> Util.color(key, param)));
+            }
+
+            if (index >= players.length) cancel();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.moleculepowered.api.updater;
+
+import com.moleculepowered.api.metrics.Counter;
+import com.moleculepowered.api.metrics.Histogram;
+import com.moleculepowered.api.metrics.MetricRegistry;
+import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.HttpResponse;
+import com.moleculepowered.api.updater.enums.UpdateResult;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class used to record the metrics of a single provider belonging to an {@link Updater}.
+ * <p>
+ * The metrics are held within a {@link MetricRegistry} registered with JMX under
+ * <code>com.moleculepowered.api:type=Updater,plugin=&lt;plugin&gt;,provider=&lt;provider&gt;</code>.
+ * Latencies are recorded in microseconds, checks restored from the cache are not included
+ * within the check time.
+ */
+final class ProviderMetrics
+{
+    private final MetricRegistry registry;
+    private final Counter checks;
+    private final Counter cached;
+    private final Counter timeouts;
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter requests;
+    private final Counter bytesRead;
+    private final Histogram checkTime;
+    private final Histogram connectTime;
+    private final Histogram firstByteTime;
+    private final Histogram parseTime;
+    private final EnumMap<UpdateResult, Counter> results = new EnumMap<>(UpdateResult.class);
+    private volatile long lastSuccess;
+
+    /**
+     * Creates the metrics for the provided provider and registers them with JMX
+     *
+     * @param plugin The updater's plugin
+     * @param provider Target provider
+     * @param index The amount of providers with the same name added to the updater before this one
+     * @param breaker The provider's circuit breaker
+     */
+    ProviderMetrics(@NotNull Plugin plugin, @NotNull AbstractProvider provider, int index, @NotNull CircuitBreaker breaker) {
+        this.registry = new MetricRegistry("Update check metrics of " + provider.getProviderName() + " for " + plugin.getName(), plugin.getLogger());
+        this.checks = registry.counter("checks");
+        this.cached = registry.counter("cached");
+        this.timeouts = registry.counter("timeouts");
+        this.successes = registry.counter("successes");
+        this.failures = registry.counter("failures");
+        this.requests = registry.counter("requests");
+        this.bytesRead = registry.counter("bytesRead");
+        this.checkTime = registry.histogram("checkTime");
+        this.connectTime = registry.histogram("connectTime");
+        this.firstByteTime = registry.histogram("firstByteTime");
+        this.parseTime = registry.histogram("parseTime");
+
+        for (UpdateResult result : UpdateResult.values()) results.put(result, registry.counter(toName(result)));
+        registry.gauge("millisSinceSuccess", () -> lastSuccess == 0 ? -1 : System.currentTimeMillis() - lastSuccess);
+        registry.gauge("circuitState", () -> breaker.getState().ordinal());
+        registry.gauge("consecutiveFailures", breaker::getFailures);
+
+        try {
+            String name = provider.getProviderName() + (index > 0 ? "#" + index : "");
+            registry.register(new ObjectName("com.moleculepowered.api:type=Updater,plugin=" + ObjectName.quote(plugin.getName()) + ",provider=" + ObjectName.quote(name)));
+        }
+        catch (MalformedObjectNameException ignored) {}
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to record the outcome of a single check
+     *
+     * @param result The provider's result
+     */
+    void record(@NotNull ProviderResult result) {
+        checks.increment();
+        results.get(result.getResult()).increment();
+
+        if (result.isCached()) cached.increment();
+        else checkTime.record(TimeUnit.MILLISECONDS.toMicros(result.getDuration()));
+        if (result.isSuccessful()) {
+            successes.increment();
+            lastSuccess = System.currentTimeMillis();
+        }
+        else {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Used to record a check that did not finish before the updater's timeout
+     */
+    void recordTimeout() { timeouts.increment(); }
+
+    /**
+     * Used to record the timings of a response the provider received, this method is handed
+     * to the transport while the provider is being checked.
+     *
+     * @param response The closed response
+     */
+    void record(@NotNull HttpResponse response) {
+        requests.increment();
+        bytesRead.add(response.getBytesRead());
+        connectTime.record(TimeUnit.NANOSECONDS.toMicros(response.getConnectTime()));
+        firstByteTime.record(TimeUnit.NANOSECONDS.toMicros(response.getFirstByteTime()));
+        parseTime.record(TimeUnit.NANOSECONDS.toMicros(response.getBodyTime()));
+    }
+
+    /**
+     * Used to remove these metrics from JMX
+     */
+    void unregister() { registry.unregister(); }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the registry holding these metrics
+     *
+     * @return The metric registry
+     */
+    @NotNull MetricRegistry getRegistry() { return registry; }
+
+    /**
+     * Used to return the histogram holding the time taken by checks that contacted the provider
+     *
+     * @return The check time histogram
+     */
+    @NotNull Histogram getCheckTime() { return checkTime; }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to convert a result into the name of its counter, for example
+     * {@link UpdateResult#FAIL_CONNECTION} becomes "resultFailConnection".
+     *
+     * @param result Target result
+     * @return The counter name
+     */
+    private static @NotNull String toName(@NotNull UpdateResult result) {
+        StringBuilder builder = new StringBuilder("result");
+
+        for (String word : result.name().split("_")) {
+            builder.append(word.charAt(0)).append(word.substring(1).toLowerCase());
+        }
+        return builder.toString();
+    }
+}
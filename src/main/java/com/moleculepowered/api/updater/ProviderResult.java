@@ -0,0 +1,96 @@
+package com.moleculepowered.api.updater;
+
+import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.enums.UpdateResult;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A class used to represent the outcome of a single provider during an update check, it holds
+ * the artifact the provider returned, the result it produced and the error that was thrown if
+ * the provider could not complete its check.
+ */
+public final class ProviderResult
+{
+    private final AbstractProvider provider;
+    private final Updater.RemoteArtifact artifact;
+    private final UpdateResult result;
+    private final Throwable error;
+    private final long duration;
+    private final boolean cached;
+
+    /*
+    CONSTRUCTOR
+     */
+
+    @Contract(pure = true)
+    ProviderResult(@NotNull AbstractProvider provider, @Nullable Updater.RemoteArtifact artifact, @NotNull UpdateResult result, @Nullable Throwable error, long duration, boolean cached) {
+        this.provider = provider;
+        this.artifact = artifact;
+        this.result = result;
+        this.error = error;
+        this.duration = duration;
+        this.cached = cached;
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the provider this result belongs to
+     *
+     * @return The checked provider
+     */
+    public @NotNull AbstractProvider getProvider() { return provider; }
+
+    /**
+     * Used to return the artifact that the provider returned, please note that this method
+     * will return null if the provider failed, did not answer in time, or was skipped
+     * because its host is rate limited, busy or its circuit is open.
+     *
+     * @return The remote artifact
+     */
+    public @Nullable Updater.RemoteArtifact getArtifact() { return artifact; }
+
+    /**
+     * Used to return the result this provider produced on its own, a provider that did not
+     * answer before the updater's timeout will return {@link UpdateResult#UNKNOWN}.
+     *
+     * @return The provider's result
+     */
+    public @NotNull UpdateResult getResult() { return result; }
+
+    /**
+     * Used to return the error thrown by the provider, if the provider completed its
+     * check without an error, this method will return null.
+     *
+     * @return The thrown error
+     */
+    public @Nullable Throwable getError() { return error; }
+
+    /**
+     * Used to return the time in milliseconds this provider took to complete its check
+     *
+     * @return The check duration
+     */
+    public long getDuration() { return duration; }
+
+    /**
+     * Used to return whether this result was built from the values the provider already held
+     * instead of contacting the remote server, this happens when the values were restored from
+     * the updater's cache.
+     *
+     * @return true if cached
+     * @see Updater#setCacheEnabled(boolean)
+     */
+    public boolean isCached() { return cached; }
+
+    /**
+     * Used to return whether this provider returned a readable version
+     *
+     * @return true if successful
+     */
+    public boolean isSuccessful() { return artifact != null && artifact.getVersion() != null; }
+}
@@ -0,0 +1,208 @@
+package com.moleculepowered.api.updater;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A class used to hold the audience of an {@link Updater}.
+ * <p>
+ * Members are stored by their unique id, so adding or looking up a member never scans the audience and
+ * players are never held once they leave the server. The members that are currently online are indexed
+ * as they join and quit, and the players that can be notified are built from that index once and reused
+ * until a member joins, quits, is added or removed, or the updater's permission changes.
+ *
+ * @see Updater#getAudience()
+ */
+final class UpdateAudience implements Listener
+{
+    private final Plugin plugin;
+    private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<UUID, Player> online = new ConcurrentHashMap<>();
+    private final AtomicInteger version = new AtomicInteger();
+    private volatile Snapshot notifiable;
+    private volatile String permission;
+    private boolean registered;
+
+    /**
+     * Creates a new audience for the provided plugin
+     *
+     * @param plugin Parent plugin
+     */
+    UpdateAudience(@NotNull Plugin plugin) { this.plugin = plugin; }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to add a player to this audience, if the player is already a member this
+     * method will do nothing.
+     *
+     * @param member Target member
+     * @return true if added
+     */
+    boolean add(@NotNull OfflinePlayer member) {
+        if (!members.add(member.getUniqueId())) return false;
+
+        Player player = member.getPlayer();
+        if (player != null && player.isOnline()) online.put(player.getUniqueId(), player);
+
+        version.incrementAndGet();
+        register();
+        return true;
+    }
+
+    /**
+     * Used to remove a player from this audience
+     *
+     * @param member Target member
+     * @return true if removed
+     */
+    boolean remove(@NotNull OfflinePlayer member) {
+        if (!members.remove(member.getUniqueId())) return false;
+
+        online.remove(member.getUniqueId());
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Used to discard the players that can be notified, they will be rebuilt from the online members
+     * the next time they are requested. This is done before each check so permissions that changed
+     * since the last check are taken into account.
+     */
+    void invalidate() { version.incrementAndGet(); }
+
+    /**
+     * Used to start indexing the members that join and quit the server, if the plugin is not
+     * enabled yet this method will do nothing and the index is built once it is called again.
+     */
+    synchronized void register() {
+        if (registered || !plugin.isEnabled()) return;
+
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        registered = true;
+
+        for (UUID member : members) {
+            Player player = plugin.getServer().getPlayer(member);
+            if (player != null) online.put(member, player);
+        }
+        version.incrementAndGet();
+    }
+
+    /*
+    LISTENERS
+     */
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(@NotNull PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        if (!members.contains(player.getUniqueId())) return;
+
+        online.put(player.getUniqueId(), player);
+        version.incrementAndGet();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
+        if (online.remove(event.getPlayer().getUniqueId()) != null) version.incrementAndGet();
+    }
+
+    /*
+    SETTER METHODS
+     */
+
+    /**
+     * Used to set the permission members require to be notified
+     *
+     * @param permission Target permission node
+     */
+    void setPermission(@Nullable String permission) {
+        this.permission = permission;
+        version.incrementAndGet();
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the online members that hold the required permission, the returned list
+     * is shared until the audience changes and cannot be modified.
+     *
+     * @return The notifiable players
+     */
+    @NotNull List<Player> getNotifiable() {
+        int expected = version.get();
+        Snapshot current = notifiable;
+        if (current != null && current.version == expected) return current.players;
+
+        String node = permission;
+        List<Player> players = new ArrayList<>(online.size());
+
+        for (Player player : online.values()) {
+            if (player.isOnline() && (node == null || player.hasPermission(node))) players.add(player);
+        }
+
+        current = new Snapshot(expected, Collections.unmodifiableList(players));
+        notifiable = current;
+        return current.players;
+    }
+
+    /**
+     * Used to return whether the provided player is a member of this audience
+     *
+     * @param player Target player
+     * @return true if a member
+     */
+    boolean contains(@NotNull OfflinePlayer player) { return members.contains(player.getUniqueId()); }
+
+    /**
+     * Used to return the amount of members within this audience, including offline members
+     *
+     * @return The member count
+     */
+    int size() { return members.size(); }
+
+    /**
+     * Used to return whether this audience has no members
+     *
+     * @return true if empty
+     */
+    boolean isEmpty() { return members.isEmpty(); }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A class used to hold the notifiable players built at a single version of the audience,
+     * a snapshot is only reused while the audience has not changed since it was built.
+     */
+    private static final class Snapshot
+    {
+        private final int version;
+        private final List<Player> players;
+
+        private Snapshot(int version, @NotNull List<Player> players) {
+            this.version = version;
+            this.players = players;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.moleculepowered.api.updater;
+
+import com.moleculepowered.api.console.Console;
+import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.ProviderSnapshot;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class used to store the results of the last update check on disk, this allows the updater
+ * to provide a result as soon as the server starts and to skip contacting providers that were
+ * checked recently.
+ * <p>
+ * The store is written in a compact binary format, each write is made to a temporary file which
+ * is then moved over the previous file so a crash can never leave a partially written store.
+ */
+final class UpdateStore
+{
+    private static final int MAGIC = 0x4D4F4C55;
+    private static final int FORMAT = 2;
+
+    private final File file;
+    private final Map<String, ProviderSnapshot> snapshots = new LinkedHashMap<>();
+    private final Set<String> restored = ConcurrentHashMap.newKeySet();
+    private String latestKey;
+
+    /*
+    CONSTRUCTOR
+     */
+
+    UpdateStore(@NotNull File file) { this.file = file; }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to read the store from disk, if the file does not exist this method will do nothing, and
+     * if the file cannot be read it will be ignored and replaced on the next save.
+     */
+    synchronized void load() {
+        if (!file.isFile()) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT) {
+                Console.debugWarn("Ignoring update cache with an unknown format: {0}", file.getName());
+                return;
+            }
+
+            latestKey = readString(in);
+            int size = in.readInt();
+
+            for (int i = 0; i < size; i++) {
+                String key = in.readUTF();
+                ProviderSnapshot snapshot = new ProviderSnapshot(key, in.readUTF(), readString(in), readString(in),
+                        readString(in), readString(in), readString(in), readString(in), readString(in), in.readLong());
+                snapshots.put(key, snapshot);
+            }
+        }
+        catch (IOException ex) {
+            snapshots.clear();
+            latestKey = null;
+            Console.debugWarn("Unable to read update cache {0}: {1}", file.getName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Used to write the store to disk, the store is first written to a temporary file that
+     * will then replace the previous store in a single move.
+     */
+    synchronized void save() {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) return;
+
+        File temp = new File(parent, file.getName() + ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(FORMAT);
+                writeString(out, latestKey);
+                out.writeInt(snapshots.size());
+
+                for (ProviderSnapshot snapshot : snapshots.values()) {
+                    out.writeUTF(snapshot.getEndpointKey());
+                    out.writeUTF(snapshot.getProviderName());
+                    writeString(out, snapshot.getRemoteVersion());
+                    writeString(out, snapshot.getDownloadLink());
+                    writeString(out, snapshot.getChangelogLink());
+                    writeString(out, snapshot.getArtifactLink());
+                    writeString(out, snapshot.getArtifactChecksum());
+                    writeString(out, snapshot.getEntityTag());
+                    writeString(out, snapshot.getLastModified());
+                    out.writeLong(snapshot.getCheckedAt());
+                }
+            }
+
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException ex) {
+            Console.debugWarn("Unable to write update cache {0}: {1}", file.getName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Used to restore the stored values into the provided provider, if the provider was
+     * restored, it will be allowed to skip its first check while the values are still fresh.
+     *
+     * @param provider Target provider
+     * @return true if the provider was restored
+     * @see #consumeFresh(AbstractProvider, long)
+     */
+    synchronized boolean restore(@NotNull AbstractProvider provider) {
+        ProviderSnapshot snapshot = snapshots.get(provider.getEndpointKey());
+        if (snapshot == null || !provider.restoreSnapshot(snapshot)) return false;
+
+        restored.add(snapshot.getEndpointKey());
+        return true;
+    }
+
+    /**
+     * Used to return whether the provider was restored from this store and its values are
+     * younger than the provided age. Please note that a provider can only skip one check,
+     * any following call for the same provider will return false.
+     *
+     * @param provider Target provider
+     * @param maxAge The max age in milliseconds
+     * @return true if the provider does not need to be checked
+     */
+    synchronized boolean consumeFresh(@NotNull AbstractProvider provider, long maxAge) {
+        if (!restored.remove(provider.getEndpointKey())) return false;
+
+        ProviderSnapshot snapshot = snapshots.get(provider.getEndpointKey());
+        return snapshot != null && System.currentTimeMillis() - snapshot.getCheckedAt() < maxAge;
+    }
+
+    /**
+     * Used to record the values held by the provided providers, along with the provider
+     * that contains the latest release.
+     *
+     * @param providers Target providers
+     * @param latest The provider containing the latest release
+     */
+    synchronized void record(@NotNull Collection<AbstractProvider> providers, @Nullable AbstractProvider latest) {
+        for (AbstractProvider provider : providers) {
+            snapshots.put(provider.getEndpointKey(), provider.createSnapshot());
+        }
+        if (latest != null) latestKey = latest.getEndpointKey();
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the snapshot for the provider that contained the latest release during
+     * the last update check.
+     *
+     * @return The latest snapshot
+     */
+    synchronized @Nullable ProviderSnapshot getLatest() { return latestKey != null ? snapshots.get(latestKey) : null; }
+
+    /**
+     * Used to return whether the provided provider contained the latest release during the
+     * last update check.
+     *
+     * @param provider Target provider
+     * @return true if the provider contained the latest release
+     */
+    synchronized boolean isLatest(@NotNull AbstractProvider provider) { return provider.getEndpointKey().equals(latestKey); }
+
+    /*
+    UTILITY METHODS
+     */
+
+    private static @Nullable String readString(@NotNull DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeString(@NotNull DataOutputStream out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+}
@@ -1,12 +1,18 @@
 package com.moleculepowered.api.updater;
 
-import com.moleculepowered.api.Regex;
 import com.moleculepowered.api.console.Console;
 import com.moleculepowered.api.event.updater.UpdateCompleteEvent;
 import com.moleculepowered.api.event.updater.UpdateFailedEvent;
 import com.moleculepowered.api.exception.updater.InvalidVersionException;
 import com.moleculepowered.api.exception.updater.UpdateFailedException;
+import com.moleculepowered.api.metrics.Histogram;
+import com.moleculepowered.api.metrics.MetricRegistry;
 import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.HostBudget;
+import com.moleculepowered.api.updater.abstraction.HttpTransport;
+import com.moleculepowered.api.updater.abstraction.ProviderSnapshot;
+import com.moleculepowered.api.updater.enums.CheckMode;
+import com.moleculepowered.api.updater.enums.EventMode;
 import com.moleculepowered.api.updater.enums.ReleaseTag;
 import com.moleculepowered.api.updater.enums.UpdateResult;
 import com.moleculepowered.api.util.Util;
@@ -14,42 +20,109 @@ import com.moleculepowered.api.util.Version;
 import org.apache.commons.lang.Validate;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
 import java.io.IOException;
-import java.net.SocketException;
-import java.net.UnknownHostException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 public class Updater
 {
+    // HEDGE DELAY USED UNTIL THE PRIMARY PROVIDER HAS ENOUGH SAMPLES
+    private static final long DEFAULT_HEDGE_DELAY = 2000L;
+    private static final long MIN_HEDGE_DELAY = 50L;
+    private static final int HEDGE_SAMPLES = 5;
+
+    // SHARED POOL USED BY THE CONCURRENT AND HEDGED CHECK MODES
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Updater-Provider");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Plugin plugin;
-    private RemoteArtifact latestBuild;
-    private AbstractProvider provider;
-    private UpdateResult result;
+    private volatile UpdateStore store;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean downloading = new AtomicBoolean();
+    private volatile ArtifactDownloader downloader;
+    private volatile File downloadedArtifact;
+    private volatile String downloadedVersion;
+    private volatile UpdaterRegistry registry;
+    private volatile NotificationDispatcher notifier;
+    private DisableListener listener;
+    private final AtomicReference<Event> pendingEvent = new AtomicReference<>();
+    private volatile String lastOutcome;
+    private volatile long lastCheck;
+    private volatile RemoteArtifact latestBuild;
+    private volatile AbstractProvider provider;
+    private volatile UpdateResult result;
+    private volatile List<ProviderResult> providerResults;
+    private final ConcurrentHashMap<AbstractProvider, ProviderMetrics> metrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<AbstractProvider, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private CheckMode checkMode;
+    private EventMode eventMode;
     private boolean enabled;
+    private boolean cacheEnabled;
+    private boolean shared;
     private boolean unstablePreferred;
     private long interval;
+    private long timeout;
+    private long hedgeDelay;
+    private int failureThreshold;
+    private long backoff;
+    private long maxBackoff;
     private String permission;
 
     // CORE LIST COMPONENTS
     private final ArrayList<AbstractProvider> providerList = new ArrayList<>();
-    private final ArrayList<OfflinePlayer> audienceList = new ArrayList<>();
+    private final UpdateAudience audience;
 
     public Updater(@NotNull Plugin plugin) {
+        Console.setInstance(plugin);
         this.plugin = plugin;
+        this.audience = new UpdateAudience(plugin);
         this.enabled = true;
+        this.cacheEnabled = true;
+        this.shared = false;
         this.result = UpdateResult.UNKNOWN;
+        this.providerResults = Collections.emptyList();
+        this.checkMode = CheckMode.SEQUENTIAL;
+        this.eventMode = EventMode.IMMEDIATE;
         this.latestBuild = new RemoteArtifact(plugin.getDescription().getVersion());
         this.interval = Util.toBukkitInterval("2h");
-        Console.setInstance(plugin);
+        this.timeout = Util.toInterval("30s");
+        this.hedgeDelay = -1;
+        this.failureThreshold = 3;
+        this.backoff = Util.toInterval("30s");
+        this.maxBackoff = Util.toInterval("6h");
     }
 
     /*
@@ -63,22 +136,29 @@ public class Updater
      * @param async whether task will run async or not
      */
     private void initialize(boolean async) {
-        Validate.noNullElements(providerList, "You must provide at least one update provider for this updater");
+        Validate.notEmpty(providerList, "You must provide at least one update provider for this updater");
+        Validate.noNullElements(providerList, "An update provider cannot be null");
 
-        if (audienceList.isEmpty()) Console.warn("You have not provided an audience for the updater");
+        if (audience.isEmpty()) Console.warn("You have not provided an audience for the updater");
+        audience.invalidate();
 
         try {
-            for (AbstractProvider provider : providerList) {
-                this.provider = provider;
-                provider.initialize();
+            if (checkMode == CheckMode.CONCURRENT) checkConcurrently();
+            else if (checkMode == CheckMode.HEDGED) checkHedged();
+            else checkSequentially();
 
-                latestBuild = new RemoteArtifact(provider);
-                if (Version.isLess(plugin.getDescription().getVersion(), latestBuild.getVersion())) break;
+            if (cacheEnabled) {
+                store.record(providerResults.stream()
+                                            .filter(current -> current.isSuccessful() && !current.isCached())
+                                            .map(ProviderResult::getProvider)
+                                            .collect(Collectors.toList()), provider);
+                store.save();
             }
 
             // CHECK TO SEE IF VERSIONS ARE EQUAL
             if (Version.isEqual(plugin.getDescription().getVersion(), latestBuild.getVersion())) {
                 result = UpdateResult.LATEST;
+                lastOutcome = toOutcome(result, latestBuild);
                 return;
             }
 
@@ -86,18 +166,365 @@ public class Updater
             if (!isUnstablePreferred() && !ReleaseTag.equals(ReleaseTag.RELEASE, latestBuild.getVersionType())) return;
 
             result = UpdateResult.AVAILABLE;
-            plugin.getServer().getPluginManager().callEvent(new UpdateCompleteEvent(async, this, latestBuild));
-        }
-        catch (SocketException | UnknownHostException ex) {
-            result = UpdateResult.FAIL_CONNECTION;
-            plugin.getServer().getPluginManager().callEvent(new UpdateFailedEvent(async, this));
+            deliver(async, latestBuild);
+
+            download(async);
         }
         catch (InvalidVersionException ex) {
             result = UpdateResult.FAIL_VERSION;
-            plugin.getServer().getPluginManager().callEvent(new UpdateFailedEvent(async, this));
+            deliver(async, null);
         }
         catch (IOException ex) {
-            throw new UpdateFailedException("The updater failed to execute its task", ex);
+            result = UpdateResult.FAIL_CONNECTION;
+            Console.debugWarn("Unable to reach {0}: {1}", provider != null ? provider.getProviderName() : "any provider", String.valueOf(ex));
+            deliver(async, null);
+        }
+    }
+
+    /**
+     * Used to call the event matching the outcome of a check, if no artifact is provided the check is
+     * treated as failed. When events are coalesced, the event is only called if the outcome differs from
+     * the previous check, and it is handed to the main thread together with the audience notifications.
+     *
+     * @param async whether the check ran async
+     * @param artifact The latest artifact, or null if the check failed
+     * @see #setEventMode(EventMode)
+     */
+    private void deliver(boolean async, @Nullable RemoteArtifact artifact) {
+        if (eventMode == EventMode.IMMEDIATE) {
+            plugin.getServer().getPluginManager().callEvent(artifact != null ? new UpdateCompleteEvent(async, this, artifact) : new UpdateFailedEvent(async, this));
+            if (artifact != null && notifier != null) notifier.dispatch(artifact, audience.getNotifiable());
+            return;
+        }
+
+        String outcome = toOutcome(result, artifact);
+        if (outcome.equals(lastOutcome)) return;
+        lastOutcome = outcome;
+
+        Event event = artifact != null ? new UpdateCompleteEvent(false, this, artifact) : new UpdateFailedEvent(false, this);
+        if (pendingEvent.getAndSet(event) != null) return;
+
+        if (plugin.getServer().isPrimaryThread()) flush();
+        else plugin.getServer().getScheduler().runTask(plugin, this::flush);
+    }
+
+    /**
+     * Used to call the latest coalesced event on the main thread, followed by the audience
+     * notifications if the event reports an update.
+     */
+    private void flush() {
+        Event event = pendingEvent.getAndSet(null);
+        if (event == null) return;
+
+        plugin.getServer().getPluginManager().callEvent(event);
+        if (!(event instanceof UpdateCompleteEvent) || notifier == null) return;
+
+        UpdateCompleteEvent complete = (UpdateCompleteEvent) event;
+        notifier.dispatch(complete.getArtifact(), complete.getAudienceList());
+    }
+
+    /**
+     * Used to download the latest release into the server's update folder, the download is skipped when
+     * the same version has already been downloaded. When this updater is not running async, the download
+     * is handed to its own thread so the main server thread is never blocked by the transfer.
+     *
+     * @param async whether the updater is running async
+     * @see #setDownloadEnabled(boolean)
+     */
+    private void download(boolean async) {
+        ArtifactDownloader target = downloader;
+        AbstractProvider source = provider;
+        String version = latestBuild.getVersion();
+
+        if (target == null || source == null || version.equals(downloadedVersion) || !downloading.compareAndSet(false, true)) return;
+
+        Runnable task = () -> {
+            try {
+                downloadedArtifact = target.download(source);
+                downloadedVersion = version;
+                Console.log("Downloaded version {0} from {1}, it will be installed on the next restart", version, source.getProviderName());
+            }
+            catch (IOException ex) {
+                Console.warn("Unable to download version {0} from {1}: {2}", version, source.getProviderName(), ex.getMessage());
+            }
+            finally {
+                downloading.set(false);
+            }
+        };
+
+        if (async) task.run();
+        else EXECUTOR.execute(task);
+    }
+
+    /**
+     * Used to contact each provider one at a time, in the order they were added. This method will stop
+     * as soon as a provider returns a newer version, and it will rethrow the first error a provider
+     * encounters. If every provider was skipped without returning a version, the check fails instead
+     * of reporting the installed version as the latest.
+     *
+     * @throws IOException thrown when a provider fails to reach its remote server, or when no provider
+     * returned a version
+     * @see CheckMode#SEQUENTIAL
+     */
+    private void checkSequentially() throws IOException {
+        ArrayList<ProviderResult> results = new ArrayList<>();
+
+        try {
+            for (AbstractProvider provider : providerList) {
+                ProviderResult current = check(provider);
+                results.add(current);
+
+                this.provider = provider;
+                if (current.getError() != null) rethrow(current.getError());
+
+                if (current.getArtifact() != null) latestBuild = current.getArtifact();
+                if (current.getResult() == UpdateResult.AVAILABLE) break;
+            }
+        }
+        finally {
+            providerResults = Collections.unmodifiableList(results);
+        }
+
+        if (results.stream().allMatch(current -> current.getArtifact() == null)) {
+            this.provider = providerList.get(0);
+            throw new ConnectException("None of the providers returned a version, every provider was skipped");
+        }
+    }
+
+    /**
+     * Used to contact every provider at the same time and wait until all of them answer or until the
+     * {@link #getTimeout()} is reached. Once gathered, the provider with the highest version is chosen,
+     * if two providers return the same version the one added first will be chosen.
+     * <p>
+     * If no provider returns a readable version, this method will rethrow the first error in the
+     * order the providers were added.
+     *
+     * @throws IOException thrown when none of the providers could reach their remote server
+     * @see CheckMode#CONCURRENT
+     */
+    private void checkConcurrently() throws IOException {
+        ArrayList<Callable<ProviderResult>> tasks = new ArrayList<>();
+        ArrayList<ProviderResult> results = new ArrayList<>();
+
+        for (AbstractProvider provider : providerList) tasks.add(() -> check(provider));
+
+        try {
+            List<Future<ProviderResult>> futures = EXECUTOR.invokeAll(tasks, timeout, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < futures.size(); i++) results.add(collect(providerList.get(i), futures.get(i)));
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UpdateFailedException("The updater was interrupted whilst waiting for its providers", ex);
+        }
+        finally {
+            providerResults = Collections.unmodifiableList(results);
+        }
+
+        ProviderResult winner = null;
+        for (ProviderResult current : results) {
+            if (!current.isSuccessful()) continue;
+            if (winner == null || Version.isGreater(current.getArtifact().getVersion(), winner.getArtifact().getVersion())) winner = current;
+        }
+
+        if (winner == null) {
+            this.provider = providerList.get(0);
+            for (ProviderResult current : results) {
+                if (current.getError() != null) rethrow(current.getError());
+            }
+            throw new ConnectException("None of the providers returned a version within " + timeout + "ms");
+        }
+
+        this.provider = winner.getProvider();
+        this.latestBuild = winner.getArtifact();
+    }
+
+    /**
+     * Used to contact the providers one after another without waiting for the previous provider to answer.
+     * The first provider is contacted straight away, and each following provider is contacted once the
+     * {@link #getHedgeDelay()} has passed without an answer, or as soon as the previous provider fails. The
+     * first provider to return a valid version is chosen and every provider still running is cancelled.
+     * <p>
+     * If no provider returns a readable version before the {@link #getTimeout()} is reached, this method
+     * will rethrow the first error in the order the providers were added. Cancelled providers that are
+     * blocked reading from their remote server keep their thread until the read times out.
+     *
+     * @throws IOException thrown when none of the providers could reach their remote server
+     * @see CheckMode#HEDGED
+     */
+    private void checkHedged() throws IOException {
+        ExecutorCompletionService<ProviderResult> service = new ExecutorCompletionService<>(EXECUTOR);
+        ArrayList<Future<ProviderResult>> futures = new ArrayList<>();
+        ProviderResult[] outcomes = new ProviderResult[providerList.size()];
+        long[] started = new long[providerList.size()];
+
+        long delay = TimeUnit.MILLISECONDS.toNanos(getHedgeDelay(providerList.get(0)));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        ProviderResult winner = null;
+        int pending = 0;
+
+        try {
+            while (winner == null && System.nanoTime() < deadline) {
+                boolean remaining = futures.size() < providerList.size();
+
+                if (pending > 0) {
+                    long wait = deadline - System.nanoTime();
+                    Future<ProviderResult> done = service.poll(remaining ? Math.min(delay, wait) : wait, TimeUnit.NANOSECONDS);
+
+                    if (done != null) {
+                        pending--;
+                        int index = futures.indexOf(done);
+                        outcomes[index] = collect(providerList.get(index), done);
+                        if (outcomes[index].isSuccessful()) winner = outcomes[index];
+                        if (winner != null || !remaining) continue;
+                    }
+                    else if (!remaining || System.nanoTime() >= deadline) {
+                        continue;
+                    }
+                }
+                else if (!remaining) {
+                    break;
+                }
+
+                // HEDGE WITH THE NEXT PROVIDER, NOTHING ANSWERED WITHIN THE DELAY OR A PROVIDER FAILED
+                AbstractProvider next = providerList.get(futures.size());
+                started[futures.size()] = System.currentTimeMillis();
+                futures.add(service.submit(() -> check(next)));
+                pending++;
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UpdateFailedException("The updater was interrupted whilst waiting for its providers", ex);
+        }
+        finally {
+            ArrayList<ProviderResult> results = new ArrayList<>();
+
+            for (int i = 0; i < futures.size(); i++) {
+                if (outcomes[i] == null) {
+                    futures.get(i).cancel(true);
+                    if (winner == null) recordTimeout(providerList.get(i));
+                    outcomes[i] = new ProviderResult(providerList.get(i), null, UpdateResult.UNKNOWN, null, System.currentTimeMillis() - started[i], false);
+                }
+                results.add(outcomes[i]);
+            }
+            providerResults = Collections.unmodifiableList(results);
+        }
+
+        if (winner == null) {
+            this.provider = providerList.get(0);
+            for (ProviderResult current : providerResults) {
+                if (current.getError() != null) rethrow(current.getError());
+            }
+            throw new ConnectException("None of the providers returned a version within " + timeout + "ms");
+        }
+
+        this.provider = winner.getProvider();
+        this.latestBuild = winner.getArtifact();
+    }
+
+    /**
+     * Used to run a single provider and capture its outcome, this method will never throw an
+     * exception, instead any error will be stored within the returned result.
+     *
+     * @param provider Target provider
+     * @return The provider's result
+     */
+    private @NotNull ProviderResult check(@NotNull AbstractProvider provider) {
+        ProviderMetrics recorder = getRecorder(provider);
+        HttpTransport.setListener(recorder::record);
+
+        try {
+            ProviderResult current = run(provider);
+            recorder.record(current);
+            return current;
+        }
+        finally {
+            HttpTransport.setListener(null);
+        }
+    }
+
+    /**
+     * Used to initialize a single provider, or restore it from the cache, and build its result
+     *
+     * @param provider Target provider
+     * @return The provider's result
+     */
+    private @NotNull ProviderResult run(@NotNull AbstractProvider provider) {
+        long start = System.currentTimeMillis();
+
+        boolean cached = cacheEnabled && store.consumeFresh(provider, interval * 50);
+        HostBudget budget = provider.getBudget();
+        CircuitBreaker breaker = getCircuitBreaker(provider);
+
+        // HOLD BACK PROVIDERS WHOSE HOST HAS EXHAUSTED ITS BUDGET, IS ALREADY BUSY, OR WHOSE CIRCUIT IS OPEN
+        if (!cached && budget.isExhausted()) {
+            Console.debugWarn("Skipping {0} until its rate limit resets at {1}", provider.getProviderName(), new Date(budget.getBlockedUntil()));
+            return skip(provider, start);
+        }
+        if (!cached && !budget.tryAcquireCall()) {
+            Console.debugWarn("Skipping {0}, {1} is already being contacted by {2} calls", provider.getProviderName(), budget.getKey(), budget.getActiveCalls());
+            return skip(provider, start);
+        }
+        if (!cached && !breaker.tryAcquire()) {
+            Console.debugWarn("Skipping {0} until its circuit closes at {1}", provider.getProviderName(), new Date(breaker.getRetryAt()));
+            budget.releaseCall();
+            return skip(provider, start);
+        }
+
+        try {
+            boolean found = cached || (registry != null ? registry.fetch(provider, interval * 25) : provider.initialize());
+
+            // PROVIDERS THAT DID NOT FIND THEIR RELEASE COUNT TOWARDS THEIR CIRCUIT
+            if (!cached && found) breaker.recordSuccess();
+            else if (!cached) breaker.recordFailure();
+
+            RemoteArtifact artifact = new RemoteArtifact(provider);
+            return new ProviderResult(provider, artifact, compare(artifact), null, System.currentTimeMillis() - start, cached);
+        }
+        catch (Exception ex) {
+            // CHECKS INTERRUPTED BEFORE THEY REACHED THE PROVIDER SAY NOTHING ABOUT ITS HEALTH
+            if (!cached && ex instanceof InterruptedIOException && !(ex instanceof SocketTimeoutException)) breaker.release();
+            else if (!cached) breaker.recordFailure();
+
+            return new ProviderResult(provider, null, toResult(ex), ex, System.currentTimeMillis() - start, cached);
+        }
+        finally {
+            if (!cached) budget.releaseCall();
+        }
+    }
+
+    /**
+     * Used to build the result of a provider that was held back without contacting its remote server,
+     * the result holds no artifact so the next provider is used instead of the provider's last values.
+     *
+     * @param provider Target provider
+     * @param start The time in milliseconds the check started
+     * @return The provider's result
+     */
+    private @NotNull ProviderResult skip(@NotNull AbstractProvider provider, long start) {
+        return new ProviderResult(provider, null, UpdateResult.UNKNOWN, null, System.currentTimeMillis() - start, false);
+    }
+
+    /**
+     * Used to collect the result for a provider that was run concurrently, if the provider did not
+     * finish before the timeout, it will be marked as {@link UpdateResult#UNKNOWN}.
+     *
+     * @param provider Target provider
+     * @param future The provider's task
+     * @return The provider's result
+     */
+    private @NotNull ProviderResult collect(@NotNull AbstractProvider provider, @NotNull Future<ProviderResult> future) throws InterruptedException {
+        if (future.isCancelled()) {
+            recordTimeout(provider);
+            return new ProviderResult(provider, null, UpdateResult.UNKNOWN, null, timeout, false);
+        }
+
+        try {
+            return future.get();
+        }
+        catch (ExecutionException ex) {
+            // CHECKS CAPTURE THEIR OWN ERRORS, THEREFORE THIS SHOULD NEVER HAPPEN
+            throw new UpdateFailedException("A provider check failed unexpectedly", ex.getCause());
         }
     }
 
@@ -111,6 +538,10 @@ public class Updater
      * @see #scheduleAsync()
      */
     public void schedule() {
+        audience.register();
+        registerListener();
+        openStore();
+
         if (isEnabled()) {
             plugin.getServer().getScheduler().runTaskTimer(plugin, () -> initialize(false), 0, getInterval());
         }
@@ -127,18 +558,88 @@ public class Updater
      * will run as an async method meaning that it will delegate the update tasks to its own thread
      * on the server, by doing it this way it can improve server performance since accessing the internet
      * will not be done on the main thread.
+     * <p>
+     * If enabled with {@link #setShared(boolean)}, this updater will be registered with the server's
+     * {@link UpdaterRegistry} instead, which runs a single check loop for every updater and only fetches
+     * each unique endpoint once.
      *
      * @see #schedule()
      */
     public void scheduleAsync() {
-        if (isEnabled()) {
-            plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, () -> initialize(true), 0, getInterval());
+        audience.register();
+        registerListener();
+        openStore();
+
+        if (!isEnabled()) {
+            result = UpdateResult.DISABLED;
+        }
+        else if (isShared()) {
+            registry = UpdaterRegistry.getRegistry(plugin);
+            registry.register(this);
         }
         else {
-            result = UpdateResult.DISABLED;
+            plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, () -> initialize(true), 0, getInterval());
+        }
+    }
+
+    /**
+     * Used to release everything this updater shares with the rest of the server once its
+     * plugin is disabled, including the metrics of every provider registered with JMX, so
+     * the plugin's classes are not held after a reload.
+     */
+    private synchronized void close() {
+        providerList.forEach(AbstractProvider::dispose);
+        metrics.values().forEach(ProviderMetrics::unregister);
+        metrics.clear();
+        listener = null;
+    }
+
+    /**
+     * Used to register the listener that closes this updater when its plugin is disabled,
+     * if it has not been registered yet.
+     */
+    private synchronized void registerListener() {
+        if (listener == null && plugin.isEnabled()) {
+            listener = new DisableListener();
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
         }
     }
 
+    /**
+     * Used to return whether this updater is due for a check within the shared loop, an updater is
+     * due once its interval has passed since its last check and it is not already running.
+     *
+     * @param now The current time in milliseconds
+     * @return true if a check is due
+     * @see UpdaterRegistry
+     */
+    boolean isDue(long now) { return !running.get() && now - lastCheck >= interval * 50; }
+
+    /**
+     * Used by the shared loop to run an update check on behalf of this updater, the check runs on
+     * its own thread so a slow provider will not hold back other updaters.
+     *
+     * @param registry The registry running this updater
+     * @see UpdaterRegistry
+     */
+    void runShared(@NotNull UpdaterRegistry registry) {
+        if (!running.compareAndSet(false, true)) return;
+        this.registry = registry;
+        this.lastCheck = System.currentTimeMillis();
+
+        EXECUTOR.execute(() -> {
+            try {
+                initialize(true);
+            }
+            catch (RuntimeException ex) {
+                plugin.getLogger().log(Level.WARNING, "The updater failed to execute its task", ex);
+            }
+            finally {
+                running.set(false);
+            }
+        });
+    }
+
     /*
     CHAIN OPTIONS
      */
@@ -168,10 +669,25 @@ public class Updater
      * @return An instance of this updater chain
      * @see #addAudience(org.bukkit.OfflinePlayer[])
      * @see #addAudience(java.util.Collection)
-     * @see #getAudienceList()
+     * @see #removeAudienceMember(org.bukkit.OfflinePlayer)
+     * @see #getAudience()
      */
     public Updater addAudienceMember(@NotNull OfflinePlayer member) {
-        if (!this.audienceList.contains(member)) this.audienceList.add(member);
+        Validate.notNull(member, "An error occurred whilst trying to add a null audience member");
+        audience.add(member);
+        return this;
+    }
+
+    /**
+     * Used to remove a player from the audience list, if the player is not a member
+     * of the audience this method will do nothing.
+     *
+     * @param member Target audience member
+     * @return An instance of this updater chain
+     * @see #addAudienceMember(org.bukkit.OfflinePlayer)
+     */
+    public Updater removeAudienceMember(@NotNull OfflinePlayer member) {
+        audience.remove(member);
         return this;
     }
 
@@ -222,6 +738,57 @@ public class Updater
         return this;
     }
 
+    /**
+     * Used to toggle whether this updater will store the results of its checks within the plugin's
+     * data folder. While enabled, the last known result is available as soon as the server starts,
+     * and providers that were checked more recently than the {@link #getInterval()} will not be
+     * contacted again on startup. By default, this setting is enabled.
+     * <p>
+     * Each updater is stored within its own file, named after the endpoints of its providers, so
+     * several updaters within the same plugin never replace each other's results.
+     *
+     * @param toggle determines whether results are cached
+     * @return An instance of this updater chain
+     * @see #isCacheEnabled()
+     */
+    public Updater setCacheEnabled(boolean toggle) {
+        this.cacheEnabled = toggle;
+        return this;
+    }
+
+    /**
+     * Used to toggle whether this updater will download new releases into the server's update folder,
+     * Bukkit will then replace the plugin's jar with the downloaded file the next time the server starts.
+     * Only providers that supply an artifact link can be downloaded from, and when the provider also
+     * supplies a checksum, the file is only installed once it matches. By default, this setting is disabled.
+     *
+     * @param toggle determines whether releases are downloaded
+     * @return An instance of this updater chain
+     * @see #isDownloadEnabled()
+     * @see #getDownloadedArtifact()
+     */
+    public Updater setDownloadEnabled(boolean toggle) {
+        if (!toggle) downloader = null;
+        else if (downloader == null) downloader = new ArtifactDownloader(plugin.getServer().getUpdateFolderFile(), Util.getJarFile(plugin).getName());
+        return this;
+    }
+
+    /**
+     * Used to toggle whether this updater will join the server's shared {@link UpdaterRegistry} when
+     * scheduled asynchronously. While shared, providers reading from the same endpoint as another
+     * updater will reuse that updater's fetch instead of contacting the remote server themselves.
+     * By default, this setting is disabled.
+     *
+     * @param toggle determines whether this updater is shared
+     * @return An instance of this updater chain
+     * @see #isShared()
+     * @see #scheduleAsync()
+     */
+    public Updater setShared(boolean toggle) {
+        this.shared = toggle;
+        return this;
+    }
+
     /**
      * Used to set whether this updater will accept unstable versions as valid releases.
      * <p>
@@ -247,13 +814,107 @@ public class Updater
      * to set the interval to match that frequency, there are a few formats you can use to achieve
      * this, "2h", "2 h", "2 hour", "2 hours" are some examples of valid intervals. Please do note that
      * this method is not string when it comes to letter casing.
+     * <p>
+     * Please note that the interval must be at least a single tick, meaning 50 milliseconds.
      *
      * @param interval Target interval
      * @return An instance of this updater chain
      * @see #getInterval()
      */
     public Updater setInterval(String interval) {
-        this.interval = Util.toBukkitInterval(interval);
+        long ticks = Util.toBukkitInterval(interval);
+        Validate.isTrue(ticks > 0, "The interval must be at least a single tick (50ms): " + interval);
+
+        this.interval = ticks;
+        return this;
+    }
+
+    /**
+     * Used to set how this updater will contact its providers, by default, providers are contacted
+     * one at a time, though if you have several mirrors configured you can contact all of them at
+     * once so the check only takes as long as the slowest provider. Mirrors of the same project can
+     * also be hedged, so the check only takes as long as the fastest healthy mirror.
+     *
+     * @param mode Target check mode
+     * @return An instance of this updater chain
+     * @see #getCheckMode()
+     * @see #setTimeout(String)
+     * @see #setHedgeDelay(String)
+     */
+    public Updater setCheckMode(@NotNull CheckMode mode) {
+        Validate.notNull(mode, "The check mode cannot be null");
+        this.checkMode = mode;
+        return this;
+    }
+
+    /**
+     * Used to set how this updater will call its events, by default, events are called after every
+     * check on the thread that ran it. Coalescing events will only call them when the outcome of a check
+     * changes and will always call them on the main thread.
+     *
+     * @param mode Target event mode
+     * @return An instance of this updater chain
+     * @see #getEventMode()
+     */
+    public Updater setEventMode(@NotNull EventMode mode) {
+        Validate.notNull(mode, "The event mode cannot be null");
+        this.eventMode = mode;
+        return this;
+    }
+
+    /**
+     * Used to set the overall deadline for a concurrent or hedged update check, once this deadline has passed,
+     * any provider that has not answered will be abandoned. This setting follows the same formats as
+     * {@link #setInterval(String)}, "30s", "1 minute" are some examples of valid timeouts.
+     *
+     * @param timeout Target timeout
+     * @return An instance of this updater chain
+     * @see #getTimeout()
+     * @see #setCheckMode(CheckMode)
+     */
+    public Updater setTimeout(String timeout) {
+        this.timeout = Util.toInterval(timeout);
+        return this;
+    }
+
+    /**
+     * Used to set how long a hedged update check will wait for a provider to answer before it also
+     * contacts the next provider. This setting follows the same formats as {@link #setInterval(String)},
+     * "500ms", "2s" are some examples of valid delays.
+     * <p>
+     * Please note that by default, or when null is provided, the delay is the 95th percentile of the
+     * time the first provider has taken to answer, and 2 seconds until it has answered a few times.
+     *
+     * @param delay Target delay, or null to follow the first provider
+     * @return An instance of this updater chain
+     * @see #getHedgeDelay()
+     * @see #setCheckMode(CheckMode)
+     */
+    public Updater setHedgeDelay(@Nullable String delay) {
+        this.hedgeDelay = delay != null ? Util.toInterval(delay) : -1;
+        return this;
+    }
+
+    /**
+     * Used to set when a provider that keeps failing will stop being contacted. Once a provider fails the
+     * provided amount of checks in a row, it is skipped for the provided backoff, which doubles every time
+     * the provider fails again up to the provided max. The backoffs follow the same formats as
+     * {@link #setInterval(String)}.
+     * <p>
+     * Please note that by default, providers are skipped after 3 failures for 30 seconds, up to
+     * 6 hours, and that these settings only apply to providers that have not been checked yet.
+     *
+     * @param failureThreshold The amount of failures in a row that open a provider's circuit
+     * @param backoff The first backoff
+     * @param maxBackoff The max backoff
+     * @return An instance of this updater chain
+     * @see #getCircuitBreaker(AbstractProvider)
+     */
+    public Updater setCircuitBreaker(int failureThreshold, @NotNull String backoff, @NotNull String maxBackoff) {
+        Validate.isTrue(failureThreshold > 0, "The failure threshold must be greater than 0");
+        this.failureThreshold = failureThreshold;
+        this.backoff = Util.toInterval(backoff);
+        this.maxBackoff = Util.toInterval(maxBackoff);
         return this;
     }
 
@@ -267,6 +928,22 @@ public class Updater
      */
     public Updater setPermission(String node) {
         this.permission = node;
+        this.audience.setPermission(node);
+        return this;
+    }
+
+    /**
+     * Used to set the dispatcher that notifies the audience once an update is found, the audience
+     * is notified in batches on the main thread after the {@link UpdateCompleteEvent} is called.
+     * Please note that by default, no dispatcher is set and the audience is only notified by the
+     * listeners of that event.
+     *
+     * @param dispatcher Target dispatcher, or null to disable notifications
+     * @return An instance of this updater chain
+     * @see #getNotifier()
+     */
+    public Updater setNotifier(@Nullable NotificationDispatcher dispatcher) {
+        this.notifier = dispatcher;
         return this;
     }
 
@@ -291,6 +968,48 @@ public class Updater
      */
     public long getInterval() { return interval; }
 
+    /**
+     * Used to return the deadline in milliseconds used by concurrent and hedged update checks
+     *
+     * @return The check timeout
+     * @see #setTimeout(String)
+     */
+    public long getTimeout() { return timeout; }
+
+    /**
+     * Used to return the delay in milliseconds a hedged update check will wait for a provider
+     * before it also contacts the next provider
+     *
+     * @return The hedge delay
+     * @see #setHedgeDelay(String)
+     */
+    public long getHedgeDelay() { return providerList.isEmpty() ? DEFAULT_HEDGE_DELAY : getHedgeDelay(providerList.get(0)); }
+
+    /**
+     * Used to return how this updater will contact its providers
+     *
+     * @return The check mode
+     * @see #setCheckMode(CheckMode)
+     */
+    public @NotNull CheckMode getCheckMode() { return checkMode; }
+
+    /**
+     * Used to return how this updater will call its events
+     *
+     * @return The event mode
+     * @see #setEventMode(EventMode)
+     */
+    public @NotNull EventMode getEventMode() { return eventMode; }
+
+    /**
+     * Used to return the individual outcome of each provider from the last update check, the
+     * results are ordered the same way as the {@link #getProviderList()}. Please note that in
+     * sequential and hedged modes, providers that were not reached will not have a result.
+     *
+     * @return An unmodifiable list of provider results
+     */
+    public @NotNull List<ProviderResult> getProviderResults() { return providerResults; }
+
     /**
      * Used to return the permission required by player's in-order to receive
      * notifications.
@@ -300,6 +1019,14 @@ public class Updater
      */
     public @Nullable String getPermission() { return permission; }
 
+    /**
+     * Used to return the dispatcher that notifies the audience once an update is found
+     *
+     * @return The notification dispatcher
+     * @see #setNotifier(NotificationDispatcher)
+     */
+    public @Nullable NotificationDispatcher getNotifier() { return notifier; }
+
     /**
      * Used to return a complete list of providers that will be used for by this updater 
      * 
@@ -311,16 +1038,32 @@ public class Updater
 
     /**
      * Used to return the audience list that could potentially receive notifications
-     * from this updater and its components
+     * from this updater and its components, the returned list is a copy of {@link #getAudience()}
+     * that can be freely modified.
      * 
      * @return The target audience list
+     * @see #getAudience()
      */
-    public @NotNull ArrayList<Player> getAudienceList() {
-        return audienceList.stream()
-                           .filter(this::isNotifiable)
-                           .map(OfflinePlayer::getPlayer)
-                           .collect(Collectors.toCollection(ArrayList::new));
-    }
+    public @NotNull ArrayList<Player> getAudienceList() { return new ArrayList<>(audience.getNotifiable()); }
+
+    /**
+     * Used to return the members of the audience that are online and hold the required permission.
+     * <p>
+     * The members that are online are tracked as they join and quit the server, so this list is only
+     * rebuilt once the audience changes or a new check begins, every call in between returns the same
+     * list, which cannot be modified.
+     *
+     * @return The notifiable audience
+     * @see #getPermission()
+     */
+    public @NotNull List<Player> getAudience() { return audience.getNotifiable(); }
+
+    /**
+     * Used to return the amount of players added to the audience, including those that are offline
+     *
+     * @return The audience size
+     */
+    public int getAudienceSize() { return audience.size(); }
 
     /**
      * Used to return the parent plugin assigned to this updater
@@ -349,10 +1092,68 @@ public class Updater
      */
     public @Nullable AbstractProvider getProvider() { return provider; }
 
+    /**
+     * Used to return the file this updater last downloaded into the server's update folder, if
+     * no release has been downloaded yet, this method will return null.
+     *
+     * @return The downloaded file
+     * @see #setDownloadEnabled(boolean)
+     */
+    public @Nullable File getDownloadedArtifact() { return downloadedArtifact; }
+
+    /**
+     * Used to return the SHA-256 checksum of the file this updater last downloaded
+     *
+     * @return The hexadecimal checksum
+     * @see #getDownloadedArtifact()
+     */
+    public @Nullable String getDownloadedChecksum() { return downloader != null ? downloader.getChecksum() : null; }
+
+    /**
+     * Used to return the metrics recorded for the provided provider, this includes the amount of checks,
+     * the results they produced, their connect, first byte and parse latencies, the bytes read and the time
+     * since the last successful check. The same metrics are exposed through JMX under
+     * <code>com.moleculepowered.api:type=Updater,plugin=&lt;plugin&gt;,provider=&lt;provider&gt;</code>.
+     * <p>
+     * If the provider has not been checked yet, this method will return null.
+     *
+     * @param provider Target provider
+     * @return The provider's metrics
+     */
+    public @Nullable MetricRegistry getMetrics(@NotNull AbstractProvider provider) {
+        ProviderMetrics current = metrics.get(provider);
+        return current != null ? current.getRegistry() : null;
+    }
+
+    /**
+     * Used to return the circuit breaker of the provided provider, the breaker reports whether the provider
+     * is currently being skipped because it failed too many checks in a row, and when it will be contacted again.
+     *
+     * @param provider Target provider
+     * @return The provider's circuit breaker
+     * @see #setCircuitBreaker(int, String, String)
+     */
+    public @NotNull CircuitBreaker getCircuitBreaker(@NotNull AbstractProvider provider) {
+        CircuitBreaker current = breakers.get(provider);
+        if (current != null) return current;
+
+        return breakers.computeIfAbsent(provider, key -> new CircuitBreaker(failureThreshold, backoff, maxBackoff));
+    }
+
     /*
     BOOLEAN METHODS
      */
 
+    /**
+     * Used to return whether the provided player has been added to the audience of this updater,
+     * regardless of whether they are online or hold the required permission.
+     *
+     * @param player Target player
+     * @return true if an audience member
+     * @see #addAudienceMember(org.bukkit.OfflinePlayer)
+     */
+    public boolean isAudienceMember(@NotNull OfflinePlayer player) { return audience.contains(player); }
+
     /**
      * Used to return whether this updater is currently enabled.
      *
@@ -361,6 +1162,30 @@ public class Updater
      */
     public boolean isEnabled() { return enabled; }
 
+    /**
+     * Used to return whether this updater stores the results of its checks on disk.
+     *
+     * @return true if results are cached
+     * @see #setCacheEnabled(boolean)
+     */
+    public boolean isCacheEnabled() { return cacheEnabled; }
+
+    /**
+     * Used to return whether this updater will join the server's shared registry
+     *
+     * @return true if shared
+     * @see #setShared(boolean)
+     */
+    public boolean isShared() { return shared; }
+
+    /**
+     * Used to return whether this updater downloads new releases into the update folder
+     *
+     * @return true if releases are downloaded
+     * @see #setDownloadEnabled(boolean)
+     */
+    public boolean isDownloadEnabled() { return downloader != null; }
+
     /**
      * Used to return whether unstable builds will trigger the notification system.
      * <p>
@@ -378,15 +1203,145 @@ public class Updater
      */
 
     /**
-     * A utility method used to return whether an offline player is notifiable, this is determined
-     * by checking if the player is currently online on the server and if they have the permission.
+     * A utility method used to read this updater's store from disk and restore its providers, along
+     * with the result of the last update check. The store is named after the endpoints of this
+     * updater's providers, so it is only opened once the updater is scheduled and every provider
+     * has been added.
      *
-     * @param player Target player
-     * @return true if player can receive notifications
-     * @see #getPermission()
+     * @see #setCacheEnabled(boolean)
+     */
+    private synchronized void openStore() {
+        if (store != null) return;
+
+        String endpoints = providerList.stream().map(AbstractProvider::getEndpointKey).collect(Collectors.joining("\n"));
+        UpdateStore current = new UpdateStore(new File(plugin.getDataFolder(), "updater-" + Integer.toHexString(endpoints.hashCode()) + ".dat"));
+        store = current;
+        if (!cacheEnabled) return;
+
+        current.load();
+        for (AbstractProvider provider : providerList) {
+            if (current.restore(provider) && current.isLatest(provider)) this.provider = provider;
+        }
+        restoreLatest();
+    }
+
+    /**
+     * A utility method used to restore the result from the last update check that was stored on
+     * disk, this allows the updater to report a result before it contacts any provider.
+     *
+     * @see #setCacheEnabled(boolean)
+     */
+    private void restoreLatest() {
+        ProviderSnapshot snapshot = store.getLatest();
+        if (snapshot == null || snapshot.getRemoteVersion() == null) return;
+
+        try {
+            RemoteArtifact artifact = new RemoteArtifact(snapshot.getRemoteVersion());
+            UpdateResult restored = compare(artifact);
+
+            if (restored == UpdateResult.AVAILABLE && !ReleaseTag.equals(ReleaseTag.RELEASE, artifact.getVersionType())) return;
+
+            this.latestBuild = artifact;
+            this.result = restored;
+        }
+        catch (InvalidVersionException ignored) {}
+    }
+
+    /**
+     * A utility method used to record a provider that did not answer before the updater's timeout,
+     * the abandoned check still records its own outcome towards the provider's circuit once it ends.
+     *
+     * @param provider Target provider
+     */
+    private void recordTimeout(@NotNull AbstractProvider provider) { getRecorder(provider).recordTimeout(); }
+
+    /**
+     * A utility method used to return the metrics of the provided provider, creating them on its first
+     * check. Providers sharing a name are told apart by the amount of providers with that name added
+     * before them.
+     *
+     * @param provider Target provider
+     * @return The provider's metrics
+     */
+    private @NotNull ProviderMetrics getRecorder(@NotNull AbstractProvider provider) {
+        ProviderMetrics current = metrics.get(provider);
+        if (current != null) return current;
+
+        return metrics.computeIfAbsent(provider, key -> {
+            int index = 0;
+            for (AbstractProvider other : providerList) {
+                if (other == key) break;
+                if (other.getProviderName().equals(key.getProviderName())) index++;
+            }
+            return new ProviderMetrics(plugin, key, index, getCircuitBreaker(key));
+        });
+    }
+
+    /**
+     * A utility method used to compare the provided artifact against the version installed
+     * on the server.
+     *
+     * @param artifact Target artifact
+     * @return {@link UpdateResult#AVAILABLE} if the artifact is newer
+     */
+    private @NotNull UpdateResult compare(@NotNull RemoteArtifact artifact) {
+        if (artifact.getVersion() == null) return UpdateResult.UNKNOWN;
+        return Version.isLess(plugin.getDescription().getVersion(), artifact.getVersion()) ? UpdateResult.AVAILABLE : UpdateResult.LATEST;
+    }
+
+    /**
+     * A utility method used to return the hedge delay for the provided primary provider, unless a delay
+     * was set, this is the 95th percentile of the time the provider took to answer once it has enough samples.
+     *
+     * @param primary The first provider
+     * @return The hedge delay in milliseconds
+     */
+    private long getHedgeDelay(@NotNull AbstractProvider primary) {
+        if (hedgeDelay >= 0) return hedgeDelay;
+
+        ProviderMetrics current = metrics.get(primary);
+        Histogram checkTime = current != null ? current.getCheckTime() : null;
+        if (checkTime == null || checkTime.getCount() < HEDGE_SAMPLES) return DEFAULT_HEDGE_DELAY;
+
+        return Math.max(MIN_HEDGE_DELAY, TimeUnit.MICROSECONDS.toMillis(checkTime.getPercentile(0.95)));
+    }
+
+    /**
+     * A utility method used to convert the outcome of a check into a key that can be compared
+     * with the outcome of the previous check.
+     *
+     * @param result The check result
+     * @param artifact The latest artifact, or null if the check failed
+     * @return The outcome key
+     */
+    private static @NotNull String toOutcome(@NotNull UpdateResult result, @Nullable RemoteArtifact artifact) {
+        return artifact == null ? result.name() : result.name() + ":" + artifact.getVersion() + ":" + artifact.getVersionType();
+    }
+
+    /**
+     * A utility method used to convert an error thrown by a provider into its matching result.
+     *
+     * @param error Target error
+     * @return The matching update result
+     */
+    private static @NotNull UpdateResult toResult(Throwable error) {
+        if (error instanceof IOException) return UpdateResult.FAIL_CONNECTION;
+        if (error instanceof InvalidVersionException) return UpdateResult.FAIL_VERSION;
+        return UpdateResult.UNKNOWN;
+    }
+
+    /**
+     * A utility method used to rethrow an error captured from a provider so that it can be
+     * handled by the updater the same way as if the provider was called directly.
+     *
+     * @param error Target error
+     * @throws IOException thrown when the error is an IOException
      */
-    private boolean isNotifiable(@NotNull OfflinePlayer player) {
-        return player.isOnline() && (permission == null || player.getPlayer().hasPermission(getPermission()));
+    private static void rethrow(Throwable error) throws IOException {
+        if (error instanceof IOException) throw (IOException) error;
+        if (error instanceof RuntimeException) throw (RuntimeException) error;
+        if (error instanceof Error) throw (Error) error;
+        throw new UpdateFailedException("The updater failed to execute its task", error);
     }
 
     /*
@@ -424,13 +1379,11 @@ public class Updater
         private void configure() {
             if (version == null) return;
 
-            Matcher versionMatcher = Pattern.compile(Regex.VERSION).matcher(version);
-            Matcher versionTypeMatcher = Pattern.compile(Regex.VERSION_TYPE).matcher(version);
-
-            versionType = versionTypeMatcher.find() ? ReleaseTag.parse(versionTypeMatcher.group()).name() : ReleaseTag.RELEASE.name();
+            Version parsed = Version.find(version);
+            if (parsed == null) throw new InvalidVersionException();
 
-            if (versionMatcher.find()) version = versionMatcher.group();
-            else throw new InvalidVersionException();
+            versionType = ReleaseTag.find(version).name();
+            version = parsed.getNumber();
         }
 
         /*
@@ -451,4 +1404,18 @@ public class Updater
          */
         public String getVersion()     { return version;     }
     }
+
+    /**
+     * A listener used to close this updater once its plugin is disabled
+     */
+    private final class DisableListener implements Listener
+    {
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginDisable(@NotNull PluginDisableEvent event) {
+            if (!event.getPlugin().equals(plugin)) return;
+
+            close();
+            HandlerList.unregisterAll(this);
+        }
+    }
 }
@@ -0,0 +1,254 @@
+package com.moleculepowered.api.updater;
+
+import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.ProviderSnapshot;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.ServicesManager;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A class used to share a single update check loop between every {@link Updater} on the server.
+ * <p>
+ * The registry is exposed through Bukkit's {@link ServicesManager}, the first plugin to schedule an
+ * updater creates the registry and every following updater registers with it. Providers that read
+ * from the same endpoint are only fetched once, every other updater reading from that endpoint will
+ * receive the same values, therefore the amount of outbound requests depends on the amount of unique
+ * endpoints rather than the amount of plugins.
+ * <p>
+ * Please note that the registry can only be shared by plugins that load this API from the same
+ * class loader, plugins that shade their own copy will create their own registry.
+ */
+public final class UpdaterRegistry implements Listener
+{
+    private static final long LOOP_PERIOD = 20L;
+
+    private final List<Updater> updaters = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<String, Fetch> fetches = new ConcurrentHashMap<>();
+    private Plugin owner;
+    private BukkitTask task;
+
+    private UpdaterRegistry(@NotNull Plugin owner) { this.owner = owner; }
+
+    /**
+     * Used to return the registry registered with the server, if no registry exists yet, a new
+     * registry will be created and registered on behalf of the provided plugin.
+     *
+     * @param plugin Requesting plugin
+     * @return The shared registry
+     */
+    public static synchronized @NotNull UpdaterRegistry getRegistry(@NotNull Plugin plugin) {
+        ServicesManager services = plugin.getServer().getServicesManager();
+        UpdaterRegistry registry = services.load(UpdaterRegistry.class);
+
+        if (registry == null) {
+            registry = new UpdaterRegistry(plugin);
+            services.register(UpdaterRegistry.class, registry, plugin, ServicePriority.Normal);
+            plugin.getServer().getPluginManager().registerEvents(registry, plugin);
+        }
+        return registry;
+    }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to add an updater to the shared check loop, the updater will be checked straight
+     * away and then every time its interval has passed.
+     *
+     * @param updater Target updater
+     */
+    public synchronized void register(@NotNull Updater updater) {
+        if (!updaters.contains(updater)) updaters.add(updater);
+        if (task == null) task = owner.getServer().getScheduler().runTaskTimerAsynchronously(owner, this::tick, 0, LOOP_PERIOD);
+    }
+
+    /**
+     * Used to remove an updater from the shared check loop
+     *
+     * @param updater Target updater
+     */
+    public synchronized void unregister(@NotNull Updater updater) { updaters.remove(updater); }
+
+    /**
+     * Used to fetch the values for the provided provider, if another updater is already fetching
+     * the same endpoint, or fetched it within the provided age, this method will wait for that fetch
+     * and restore its values into the provider instead of contacting the remote server again.
+     *
+     * @param provider Target provider
+     * @param maxAge The max age in milliseconds of a previous fetch that can be reused
+     * @return True if the provider found its release, otherwise false
+     * @throws IOException thrown when the fetch failed to reach the remote server
+     */
+    boolean fetch(@NotNull AbstractProvider provider, long maxAge) throws IOException {
+        String key = provider.getEndpointKey();
+
+        while (true) {
+            Fetch current = fetches.get(key);
+
+            if (current != null && current.isReusable(maxAge)) {
+                ProviderSnapshot snapshot = current.await();
+                if (snapshot == null) return false;
+                if (current.provider == provider || provider.restoreSnapshot(snapshot)) return true;
+
+                // PROVIDERS THAT CANNOT BE RESTORED MUST FETCH THEIR OWN VALUES
+                return provider.initialize();
+            }
+
+            Fetch fetch = new Fetch(provider);
+            if (current == null ? fetches.putIfAbsent(key, fetch) != null : !fetches.replace(key, current, fetch)) continue;
+
+            try {
+                // RELEASES THAT WERE NOT FOUND ARE SHARED WITH WAITING FOLLOWERS BUT NEVER REUSED
+                if (!provider.initialize()) {
+                    fetches.remove(key, fetch);
+                    fetch.complete(null);
+                    return false;
+                }
+
+                fetch.complete(provider.createSnapshot());
+                return true;
+            }
+            catch (IOException | RuntimeException ex) {
+                fetches.remove(key, fetch);
+                fetch.fail(ex);
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * The method called by the shared loop, it will run every registered updater that is due
+     * for a check.
+     */
+    private void tick() {
+        long now = System.currentTimeMillis();
+
+        for (Updater updater : updaters) {
+            if (updater.isDue(now)) updater.runShared(this);
+        }
+    }
+
+    /**
+     * Used to remove the updaters belonging to a plugin that is being disabled along with the fetches
+     * led by their providers, if the disabled plugin owns this registry, the registry will be handed
+     * to the next plugin that still has an updater.
+     *
+     * @param event The disable event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public synchronized void onPluginDisable(@NotNull PluginDisableEvent event) {
+        Plugin plugin = event.getPlugin();
+        Set<AbstractProvider> providers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (Updater updater : updaters) {
+            if (updater.getPlugin().equals(plugin)) providers.addAll(updater.getProviderList());
+        }
+        updaters.removeIf(updater -> updater.getPlugin().equals(plugin));
+        fetches.values().removeIf(fetch -> providers.contains(fetch.provider));
+
+        if (!plugin.equals(owner)) return;
+
+        ServicesManager services = owner.getServer().getServicesManager();
+        services.unregister(this);
+        HandlerList.unregisterAll(this);
+        if (task != null) task.cancel();
+        task = null;
+
+        if (updaters.isEmpty()) return;
+
+        owner = updaters.get(0).getPlugin();
+        services.register(UpdaterRegistry.class, this, owner, ServicePriority.Normal);
+        owner.getServer().getPluginManager().registerEvents(this, owner);
+        task = owner.getServer().getScheduler().runTaskTimerAsynchronously(owner, this::tick, 0, LOOP_PERIOD);
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the plugin that currently runs the shared loop
+     *
+     * @return The owning plugin
+     */
+    public @NotNull Plugin getOwner() { return owner; }
+
+    /**
+     * Used to return every updater registered with this registry
+     *
+     * @return The registered updaters
+     */
+    public @NotNull List<Updater> getUpdaters() { return updaters; }
+
+    /**
+     * Used to return the amount of unique endpoints this registry has fetched
+     *
+     * @return The amount of endpoints
+     */
+    public int getEndpointCount() { return fetches.size(); }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A class used to represent a single fetch of an endpoint, followers wait on the fetch
+     * until the leading provider completes it.
+     */
+    private static final class Fetch
+    {
+        private final AbstractProvider provider;
+        private final CompletableFuture<ProviderSnapshot> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private Fetch(@NotNull AbstractProvider provider) { this.provider = provider; }
+
+        private void complete(@Nullable ProviderSnapshot snapshot) {
+            completedAt = System.currentTimeMillis();
+            future.complete(snapshot);
+        }
+
+        private void fail(@NotNull Throwable error) { future.completeExceptionally(error); }
+
+        private boolean isReusable(long maxAge) {
+            return !future.isDone() || System.currentTimeMillis() - completedAt < maxAge;
+        }
+
+        private @Nullable ProviderSnapshot await() throws IOException {
+            try {
+                return future.get();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                InterruptedIOException error = new InterruptedIOException("Interrupted whilst waiting for a shared fetch");
+                error.initCause(ex);
+                throw error;
+            }
+            catch (ExecutionException ex) {
+                if (ex.getCause() instanceof IOException) throw (IOException) ex.getCause();
+                if (ex.getCause() instanceof RuntimeException) throw (RuntimeException) ex.getCause();
+                throw new IOException(ex.getCause());
+            }
+        }
+    }
+}
@@ -10,7 +10,10 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,6 +22,10 @@ public abstract class AbstractProvider
     // CLASS OBJECTS
     private final URL fetchURL;
 
+    // CONDITIONAL REQUEST VALIDATORS
+    private volatile String entityTag;
+    private volatile String lastModified;
+
     /*
     CONSTRUCTORS
      */
@@ -120,6 +127,37 @@ public abstract class AbstractProvider
      */
     public abstract @Nullable String getRemoteVersion();
 
+    /**
+     * Used to return the link that points directly to the update's file, unlike the
+     * {@link #getDownloadLink()} this link will be downloaded by the updater, so it must not
+     * point to a web page.
+     * <p>
+     * By default, this method will return null, which means this provider does not supply
+     * a file that can be downloaded.
+     *
+     * @return The update's file link
+     */
+    public @Nullable String getArtifactLink() { return null; }
+
+    /**
+     * Used to return the checksum the remote server published for the update's file, if a
+     * checksum is returned, a downloaded file will only be installed once it matches.
+     * <p>
+     * By default, this method will return null, which means the file cannot be verified.
+     *
+     * @return The hexadecimal checksum
+     * @see #getChecksumAlgorithm()
+     */
+    public @Nullable String getArtifactChecksum() { return null; }
+
+    /**
+     * Used to return the name of the algorithm used to compute the {@link #getArtifactChecksum()},
+     * by default, this method will return "SHA-256".
+     *
+     * @return The checksum algorithm
+     */
+    public @NotNull String getChecksumAlgorithm() { return "SHA-256"; }
+
     /*
     UTILITY
      */
@@ -165,6 +203,157 @@ public abstract class AbstractProvider
      */
     protected URL getRemoteURL() { return fetchURL; }
 
+    /**
+     * Used to return a key that uniquely identifies the remote endpoint this provider reads from,
+     * two providers of the same type reading from the same url will return the same key.
+     *
+     * @return The endpoint key
+     */
+    public @NotNull String getEndpointKey() { return getClass().getName() + "@" + getRemoteURL(); }
+
+    /**
+     * Used to return the request budget shared by every provider contacting the same host,
+     * the budget is updated with every response this provider receives.
+     *
+     * @return The host's budget
+     * @see #getBudgetKey()
+     */
+    public @NotNull HostBudget getBudget() { return HostBudget.of(getBudgetKey()); }
+
+    /**
+     * Used to return the key used to look up this provider's budget, by default the key is
+     * the remote server's host. Providers sending authenticated requests should return a key
+     * unique to their credentials since the host will give those requests a separate budget.
+     *
+     * @return The budget key
+     */
+    protected @NotNull String getBudgetKey() { return getRemoteURL().getHost(); }
+
+    /*
+    SNAPSHOTS
+     */
+
+    /**
+     * Used to capture the values this provider currently holds, including the validators
+     * returned with its last parsed response.
+     *
+     * @return A snapshot of this provider
+     * @see #restoreSnapshot(ProviderSnapshot)
+     */
+    public @NotNull ProviderSnapshot createSnapshot() {
+        return new ProviderSnapshot(getEndpointKey(), getProviderName(), getRemoteVersion(), getDownloadLink(),
+                getChangelogLink(), getArtifactLink(), getArtifactChecksum(), entityTag, lastModified, System.currentTimeMillis());
+    }
+
+    /**
+     * Used to restore the values held within the provided snapshot, please note that the snapshot
+     * must have been taken from the same endpoint, and that the provider must support being restored.
+     *
+     * @param snapshot Target snapshot
+     * @return true if the snapshot was restored
+     * @see #restore(ProviderSnapshot)
+     */
+    public boolean restoreSnapshot(@NotNull ProviderSnapshot snapshot) {
+        if (!getEndpointKey().equals(snapshot.getEndpointKey()) || !restore(snapshot)) return false;
+
+        this.entityTag = snapshot.getEntityTag();
+        this.lastModified = snapshot.getLastModified();
+        return true;
+    }
+
+    /**
+     * Used to assign the values held within a snapshot to this provider, providers that
+     * support being restored should override this method and return true. By default,
+     * this method will return false and the provider will always contact its remote server.
+     *
+     * @param snapshot Target snapshot
+     * @return true if the values were assigned
+     */
+    protected boolean restore(@NotNull ProviderSnapshot snapshot) { return false; }
+
+    /**
+     * Used to release anything this provider shares with other providers, this method is called once
+     * the plugin of the provider's updater is disabled. By default, this method does nothing.
+     */
+    public void dispose() {}
+
+    /**
+     * Used to send a request to the remote server through the shared {@link HttpTransport}, the request
+     * will already include the user agent. Additionally, if this provider has previously parsed a response,
+     * the request will include the stored validators so the remote server can answer with
+     * {@link HttpURLConnection#HTTP_NOT_MODIFIED} when nothing has changed. The rate limit headers
+     * returned with the response are used to update this provider's {@link #getBudget()}.
+     * <p>
+     * Please note that the returned response must be closed once it has been read.
+     *
+     * @return The remote server's response
+     * @throws IOException thrown when the remote server could not be reached
+     * @see #getRequestHeaders()
+     * @see #isNotModified(HttpResponse)
+     * @see #storeValidators(HttpResponse)
+     */
+    protected @NotNull HttpResponse request() throws IOException {
+        HttpResponse response = HttpTransport.get(getRemoteURL(), getRequestHeaders());
+        getBudget().update(response);
+        return response;
+    }
+
+    /**
+     * Used to return the headers that will be sent with each request to the remote server, providers
+     * that require additional headers such as an authorization token should override this method
+     * and add their headers to the map returned by this method.
+     *
+     * @return The request headers
+     * @see #request()
+     */
+    protected @NotNull Map<String, String> getRequestHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("User-Agent", getUserAgent());
+
+        if (entityTag != null) headers.put("If-None-Match", entityTag);
+        if (lastModified != null) headers.put("If-Modified-Since", lastModified);
+        return headers;
+    }
+
+    /**
+     * Used to return whether the remote server reported that its response has not changed since
+     * it was last parsed, when this method returns true, the values from the previous response
+     * are still current and the provider should not read the response.
+     *
+     * @param response Target response
+     * @return true if the previous response is still current
+     */
+    protected boolean isNotModified(@NotNull HttpResponse response) {
+        return response.getStatus() == HttpURLConnection.HTTP_NOT_MODIFIED;
+    }
+
+    /**
+     * Used to store the validators returned by the remote server, this method should only be called
+     * once the response has been parsed successfully, otherwise the next request could be answered
+     * as not modified without this provider holding any values.
+     *
+     * @param response Target response
+     * @see #request()
+     */
+    protected void storeValidators(@NotNull HttpResponse response) {
+        this.entityTag = response.getHeader("ETag");
+        this.lastModified = response.getHeader("Last-Modified");
+    }
+
+    /**
+     * Used to return the entity tag the remote server assigned to the last parsed response
+     *
+     * @return The stored entity tag
+     */
+    public @Nullable String getEntityTag() { return entityTag; }
+
+    /**
+     * Used to return the last modified date the remote server assigned to the last parsed response
+     *
+     * @return The stored last modified date
+     */
+    public @Nullable String getLastModified() { return lastModified; }
+
     /**
      * A utility method used to test the connection to the remote server, as long as the url is
      * not invalid, this method will log the response code returned by the url. Otherwise,
@@ -172,15 +361,8 @@ public abstract class AbstractProvider
      * console.
      */
     public void testConnection() {
-        try {
-            HttpURLConnection conn = (HttpURLConnection) getRemoteURL().openConnection();
-            conn.addRequestProperty("User-Agent", getUserAgent());
-            conn.setReadTimeout(30000);
-            conn.setDoOutput(true);
-            conn.connect();
-
-            Console.log("Connection URLResponse: " + conn.getResponseCode());
-            conn.disconnect();
+        try (HttpResponse response = HttpTransport.get(getRemoteURL(), Collections.singletonMap("User-Agent", getUserAgent()))) {
+            Console.log("Connection URLResponse: " + response.getStatus());
         }
         catch (IOException ex) {
             Console.log("&4Connection test failed: Unable to connect to remote server");
@@ -0,0 +1,201 @@
+package com.moleculepowered.api.updater.abstraction;
+
+import org.apache.commons.lang.Validate;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.HttpURLConnection;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A class used to track the request budget a remote host has reported, it is shared by every
+ * provider contacting the same host so that once the host reports its rate limit has been reached,
+ * no provider will contact it again until the limit resets.
+ * <p>
+ * The budget is read from the commonly used <code>X-RateLimit-Remaining</code>,
+ * <code>X-RateLimit-Reset</code> and <code>Retry-After</code> response headers.
+ * <p>
+ * The budget can also limit how many calls may contact the host at the same time, so a host that stops
+ * answering can only ever hold a few threads while their connections time out, this limit is disabled
+ * by default and can be enabled using {@link #setMaxConcurrentCalls(int)}.
+ */
+public final class HostBudget
+{
+    /**
+     * HTTP Status-Code 429: Too Many Requests, not defined within {@link HttpURLConnection}
+     */
+    public static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private static final ConcurrentHashMap<String, HostBudget> BUDGETS = new ConcurrentHashMap<>();
+    private static final long EPOCH_THRESHOLD = 1000000000L;
+    private static volatile int maxConcurrentCalls = 0;
+
+    private final String key;
+    private volatile int remaining = -1;
+    private volatile long blockedUntil;
+    private final AtomicInteger activeCalls = new AtomicInteger();
+
+    private HostBudget(@NotNull String key) { this.key = key; }
+
+    /**
+     * Used to return the budget assigned to the provided key, typically the key is the
+     * host name, though authenticated requests can use their own key since they are given
+     * a separate budget by the host.
+     *
+     * @param key Target key
+     * @return The shared budget
+     */
+    public static @NotNull HostBudget of(@NotNull String key) { return BUDGETS.computeIfAbsent(key, HostBudget::new); }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to update this budget using the headers returned with the provided response.
+     *
+     * @param response Target response
+     */
+    public void update(@NotNull HttpResponse response) {
+        long now = System.currentTimeMillis();
+        Long retryAfter = parseRetryAfter(response.getHeader("Retry-After"), now);
+        Long reset = parseLong(response.getHeader("X-RateLimit-Reset"));
+        Long left = parseLong(response.getHeader("X-RateLimit-Remaining"));
+
+        // A MISSING HEADER MEANS THE HOST NO LONGER REPORTS A BUDGET
+        remaining = left != null ? (int) Math.min(Integer.MAX_VALUE, left) : -1;
+
+        if (retryAfter != null) {
+            blockedUntil = retryAfter;
+        }
+        else if (remaining == 0 && reset != null) {
+            // SOME HOSTS REPORT THE SECONDS UNTIL RESET INSTEAD OF AN EPOCH TIMESTAMP
+            blockedUntil = reset < EPOCH_THRESHOLD ? now + reset * 1000 : reset * 1000;
+        }
+        else if (response.getStatus() == HTTP_TOO_MANY_REQUESTS || (response.getStatus() == HttpURLConnection.HTTP_FORBIDDEN && remaining == 0)) {
+            blockedUntil = now + 60000;
+        }
+    }
+
+    /**
+     * Used to reserve one of the calls allowed to contact the host at the same time, every reserved
+     * call must be given back with {@link #releaseCall()}.
+     *
+     * @return true if reserved, false if the host is already being contacted by the max amount of calls,
+     * always true while the limit is disabled
+     * @see #setMaxConcurrentCalls(int)
+     */
+    public boolean tryAcquireCall() {
+        while (true) {
+            int current = activeCalls.get();
+            int max = maxConcurrentCalls;
+            if (max > 0 && current >= max) return false;
+            if (activeCalls.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /**
+     * Used to give back a call reserved with {@link #tryAcquireCall()}
+     */
+    public void releaseCall() { activeCalls.decrementAndGet(); }
+
+    /**
+     * Used to set how many calls may contact a single host at the same time, calls beyond the limit
+     * are skipped until a call has finished. Please note that by default, the limit is disabled.
+     *
+     * @param max The max amount of calls per host, or 0 to disable the limit
+     */
+    public static void setMaxConcurrentCalls(int max) {
+        Validate.isTrue(max >= 0, "The max amount of concurrent calls cannot be negative");
+        maxConcurrentCalls = max;
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the key this budget is assigned to
+     *
+     * @return The budget key
+     */
+    public @NotNull String getKey() { return key; }
+
+    /**
+     * Used to return the amount of requests the host reported as remaining, if the host has
+     * not reported a budget yet, this method will return -1.
+     *
+     * @return The remaining requests
+     */
+    public int getRemaining() { return remaining; }
+
+    /**
+     * Used to return the time in milliseconds until which the host should not be contacted
+     *
+     * @return The time the budget resets
+     */
+    public long getBlockedUntil() { return blockedUntil; }
+
+    /**
+     * Used to return whether the host's budget has been exhausted and it should not be
+     * contacted until the budget resets.
+     *
+     * @return true if exhausted
+     */
+    public boolean isExhausted() { return System.currentTimeMillis() < blockedUntil; }
+
+    /**
+     * Used to return the amount of calls currently contacting the host
+     *
+     * @return The active calls
+     */
+    public int getActiveCalls() { return activeCalls.get(); }
+
+    /**
+     * Used to return how many calls may contact a single host at the same time
+     *
+     * @return The max amount of calls per host, or 0 if the limit is disabled
+     */
+    public static int getMaxConcurrentCalls() { return maxConcurrentCalls; }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to read the time at which the provided <code>Retry-After</code> header
+     * allows the host to be contacted again, the header may either contain the amount of seconds to
+     * wait or an HTTP-date.
+     *
+     * @param value Header value
+     * @param now The current time in milliseconds
+     * @return The time in milliseconds or null if the header is missing or malformed
+     */
+    private static Long parseRetryAfter(String value, long now) {
+        if (value == null) return null;
+
+        Long seconds = parseLong(value);
+        if (seconds != null) return now + seconds * 1000;
+
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        }
+        catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) return null;
+
+        try {
+            return Long.parseLong(value.trim());
+        }
+        catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.moleculepowered.api.updater.abstraction;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * A class used to represent a response returned through the {@link HttpTransport}.
+ * <p>
+ * A response must always be closed once it has been read, ideally using a try-with-resources
+ * statement. When closed, any unread part of the body is drained so the connection can be kept
+ * alive, if the remaining body is too large to drain, the connection will be disconnected instead.
+ * <p>
+ * Each response also records the time taken to connect, the time until the first byte of the response
+ * arrived, the time spent reading the body until the response was closed and the amount of bytes read.
+ */
+public final class HttpResponse implements Closeable
+{
+    private static final int DRAIN_LIMIT = 64 * 1024;
+
+    private final HttpURLConnection conn;
+    private final Consumer<HttpResponse> listener;
+    private final int status;
+    private final long connectTime;
+    private final long firstByteTime;
+    private final long receivedAt;
+    private CountingStream body;
+    private long bodyTime = -1;
+    private boolean closed;
+
+    /*
+    CONSTRUCTOR
+     */
+
+    HttpResponse(@NotNull HttpURLConnection conn, long connectTime, @Nullable Consumer<HttpResponse> listener) throws IOException {
+        long start = System.nanoTime();
+        this.conn = conn;
+        this.listener = listener;
+        this.connectTime = connectTime;
+
+        try {
+            this.status = conn.getResponseCode();
+        }
+        catch (IOException ex) {
+            conn.disconnect();
+            throw ex;
+        }
+
+        this.receivedAt = System.nanoTime();
+        this.firstByteTime = receivedAt - start;
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the status code returned by the server
+     *
+     * @return The status code
+     */
+    public int getStatus() { return status; }
+
+    /**
+     * Used to return the value of the provided response header
+     *
+     * @param name Target header
+     * @return The header value, or null if the header was not returned
+     */
+    public @Nullable String getHeader(@NotNull String name) { return conn.getHeaderField(name); }
+
+    /**
+     * Used to return the body returned by the server, for error responses this method will
+     * return the error body. If the server did not return a body, an empty stream is returned.
+     *
+     * @return The response body
+     * @throws IOException thrown when the body could not be opened
+     */
+    public @NotNull InputStream getBody() throws IOException {
+        if (body == null) {
+            InputStream stream = status >= HttpURLConnection.HTTP_BAD_REQUEST ? conn.getErrorStream() : conn.getInputStream();
+            body = new CountingStream(stream != null ? stream : new ByteArrayInputStream(new byte[0]));
+        }
+        return body;
+    }
+
+    /**
+     * Used to return the body as a UTF-8 reader
+     *
+     * @return A reader for the response body
+     * @throws IOException thrown when the body could not be opened
+     */
+    public @NotNull BufferedReader getReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Used to return the time in nanoseconds it took to establish the connection
+     *
+     * @return The connect time
+     */
+    public long getConnectTime() { return connectTime; }
+
+    /**
+     * Used to return the time in nanoseconds between the request being sent and the response
+     * headers being received
+     *
+     * @return The time to first byte
+     */
+    public long getFirstByteTime() { return firstByteTime; }
+
+    /**
+     * Used to return the time in nanoseconds between the response headers being received and this
+     * response being closed, which is the time spent reading and parsing the body. If this response
+     * has not been closed yet, this method will return -1.
+     *
+     * @return The body time
+     */
+    public long getBodyTime() { return bodyTime; }
+
+    /**
+     * Used to return the amount of body bytes read from this response, including any bytes
+     * drained when it was closed.
+     *
+     * @return The bytes read
+     */
+    public long getBytesRead() { return body != null ? body.count : 0; }
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to close this response, any unread part of the body is drained so the connection can
+     * be reused. If the body cannot be drained, the connection is disconnected instead.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        try {
+            drain();
+        }
+        finally {
+            bodyTime = System.nanoTime() - receivedAt;
+            if (listener != null) listener.accept(this);
+        }
+    }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to read whatever is left of the body, if the body cannot be
+     * drained, the connection is disconnected instead.
+     */
+    private void drain() {
+        try (InputStream stream = getBody()) {
+            byte[] buffer = new byte[4096];
+            int drained = 0;
+            int read;
+
+            while ((read = stream.read(buffer)) != -1) {
+                drained += read;
+                if (drained > DRAIN_LIMIT) {
+                    conn.disconnect();
+                    return;
+                }
+            }
+        }
+        catch (IOException ex) {
+            conn.disconnect();
+        }
+    }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A stream used to count the bytes read from the response body
+     */
+    private static final class CountingStream extends FilterInputStream
+    {
+        private long count;
+
+        private CountingStream(@NotNull InputStream in) { super(in); }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) count++;
+            return value;
+        }
+
+        @Override
+        public int read(@NotNull byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) count += read;
+            return read;
+        }
+
+        @Override
+        public long skip(long amount) throws IOException {
+            long skipped = super.skip(amount);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.moleculepowered.api.updater.abstraction;
+
+import org.apache.commons.lang.Validate;
+import org.jetbrains.annotations.NotNull;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A class used to provide a single HTTP transport shared by every provider.
+ * <p>
+ * All connections opened through this class share the same TLS context, which means TLS sessions
+ * are cached per host and can be resumed by any provider contacting that host. Responses are
+ * returned as an {@link HttpResponse} that must be closed once read, closing a response will drain
+ * whatever is left of its body so the underlying socket can be reused by the next request to the
+ * same host.
+ * <p>
+ * Every response records how long it took to connect, to receive its first byte and to read its body,
+ * a listener set on the calling thread with {@link #setListener(Consumer)} is handed each response once
+ * it has been closed.
+ *
+ * @see HttpResponse
+ */
+public final class HttpTransport
+{
+    private static final SSLSocketFactory SOCKET_FACTORY = createSocketFactory();
+    private static final ThreadLocal<Consumer<HttpResponse>> LISTENER = new ThreadLocal<>();
+
+    // TRANSPORT SETTINGS
+    private static volatile int connectTimeout = 10000;
+    private static volatile int readTimeout = 30000;
+
+    private HttpTransport() {}
+
+    /*
+    IMPLEMENTATION
+     */
+
+    /**
+     * Used to send a GET request to the provided url, the returned response must be closed
+     * once it has been read.
+     *
+     * @param url Target url
+     * @param headers Request headers
+     * @return The server's response
+     * @throws IOException thrown when the server could not be reached
+     */
+    public static @NotNull HttpResponse get(@NotNull URL url, @NotNull Map<String, String> headers) throws IOException {
+        HttpURLConnection conn = open(url, headers);
+        return new HttpResponse(conn, connect(conn), LISTENER.get());
+    }
+
+    /**
+     * Used to send a POST request with the provided body to the provided url, the returned
+     * response must be closed once it has been read.
+     *
+     * @param url Target url
+     * @param headers Request headers
+     * @param body Request body
+     * @return The server's response
+     * @throws IOException thrown when the server could not be reached
+     */
+    public static @NotNull HttpResponse post(@NotNull URL url, @NotNull Map<String, String> headers, @NotNull byte[] body) throws IOException {
+        HttpURLConnection conn = open(url, headers);
+        conn.setRequestMethod("POST");
+        conn.setDoOutput(true);
+        conn.setFixedLengthStreamingMode(body.length);
+        long connectTime = connect(conn);
+
+        try (OutputStream out = conn.getOutputStream()) {
+            out.write(body);
+        }
+        catch (IOException ex) {
+            conn.disconnect();
+            throw ex;
+        }
+        return new HttpResponse(conn, connectTime, LISTENER.get());
+    }
+
+    /*
+    SETTER METHODS
+     */
+
+    /**
+     * Used to set the listener that will be handed every response opened by the calling thread
+     * once the response has been closed, passing null will remove the listener. Responses are
+     * handed to the listener that was set when they were opened.
+     *
+     * @param listener Target listener
+     * @see HttpResponse#getConnectTime()
+     */
+    public static void setListener(Consumer<HttpResponse> listener) {
+        if (listener != null) LISTENER.set(listener);
+        else LISTENER.remove();
+    }
+
+    /**
+     * Used to set the time in milliseconds that a connection may take to be established
+     * before it is abandoned. By default, this value is 10 seconds.
+     *
+     * @param timeout Target timeout
+     */
+    public static void setConnectTimeout(int timeout) {
+        Validate.isTrue(timeout >= 0, "The connect timeout cannot be negative");
+        connectTimeout = timeout;
+    }
+
+    /**
+     * Used to set the time in milliseconds that a read may block before the connection
+     * is abandoned. By default, this value is 30 seconds.
+     *
+     * @param timeout Target timeout
+     */
+    public static void setReadTimeout(int timeout) {
+        Validate.isTrue(timeout >= 0, "The read timeout cannot be negative");
+        readTimeout = timeout;
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the connect timeout used by this transport
+     *
+     * @return The connect timeout
+     */
+    public static int getConnectTimeout() { return connectTimeout; }
+
+    /**
+     * Used to return the read timeout used by this transport
+     *
+     * @return The read timeout
+     */
+    public static int getReadTimeout() { return readTimeout; }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to open a connection configured with the shared settings
+     *
+     * @param url Target url
+     * @param headers Request headers
+     * @return A configured connection
+     * @throws IOException thrown when the connection could not be opened
+     */
+    private static @NotNull HttpURLConnection open(@NotNull URL url, @NotNull Map<String, String> headers) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+
+        if (conn instanceof HttpsURLConnection) ((HttpsURLConnection) conn).setSSLSocketFactory(SOCKET_FACTORY);
+        conn.setConnectTimeout(connectTimeout);
+        conn.setReadTimeout(readTimeout);
+        conn.setUseCaches(false);
+        headers.forEach(conn::addRequestProperty);
+        return conn;
+    }
+
+    /**
+     * A utility method used to establish the provided connection, measuring how long it took
+     *
+     * @param conn Target connection
+     * @return The time taken to connect in nanoseconds
+     * @throws IOException thrown when the connection could not be established
+     */
+    private static long connect(@NotNull HttpURLConnection conn) throws IOException {
+        long start = System.nanoTime();
+
+        try {
+            conn.connect();
+        }
+        catch (IOException ex) {
+            conn.disconnect();
+            throw ex;
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * A utility method used to create the socket factory shared by every connection, if a
+     * dedicated context cannot be created, the default factory will be used instead.
+     *
+     * @return A shared socket factory
+     */
+    private static @NotNull SSLSocketFactory createSocketFactory() {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, null, null);
+            context.getClientSessionContext().setSessionCacheSize(256);
+            context.getClientSessionContext().setSessionTimeout(3600);
+            return context.getSocketFactory();
+        }
+        catch (GeneralSecurityException ex) {
+            return HttpsURLConnection.getDefaultSSLSocketFactory();
+        }
+    }
+}
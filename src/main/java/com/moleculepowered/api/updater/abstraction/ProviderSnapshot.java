@@ -0,0 +1,121 @@
+package com.moleculepowered.api.updater.abstraction;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A class used to represent the values a provider held after its last successful check, it is
+ * used by the updater to store those values on disk and to restore them when the server restarts.
+ *
+ * @see AbstractProvider#createSnapshot()
+ * @see AbstractProvider#restoreSnapshot(ProviderSnapshot)
+ */
+public final class ProviderSnapshot
+{
+    private final String endpointKey;
+    private final String providerName;
+    private final String remoteVersion;
+    private final String downloadLink;
+    private final String changelogLink;
+    private final String artifactLink;
+    private final String artifactChecksum;
+    private final String entityTag;
+    private final String lastModified;
+    private final long checkedAt;
+
+    /*
+    CONSTRUCTOR
+     */
+
+    @Contract(pure = true)
+    public ProviderSnapshot(@NotNull String endpointKey, @NotNull String providerName, @Nullable String remoteVersion, @Nullable String downloadLink,
+                            @Nullable String changelogLink, @Nullable String artifactLink, @Nullable String artifactChecksum,
+                            @Nullable String entityTag, @Nullable String lastModified, long checkedAt) {
+        this.endpointKey = endpointKey;
+        this.providerName = providerName;
+        this.remoteVersion = remoteVersion;
+        this.downloadLink = downloadLink;
+        this.changelogLink = changelogLink;
+        this.artifactLink = artifactLink;
+        this.artifactChecksum = artifactChecksum;
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+        this.checkedAt = checkedAt;
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the key identifying the endpoint this snapshot was taken from
+     *
+     * @return The endpoint key
+     * @see AbstractProvider#getEndpointKey()
+     */
+    public @NotNull String getEndpointKey() { return endpointKey; }
+
+    /**
+     * Used to return the name of the provider this snapshot was taken from
+     *
+     * @return The provider's name
+     */
+    public @NotNull String getProviderName() { return providerName; }
+
+    /**
+     * Used to return the remote version the provider held
+     *
+     * @return The remote version
+     */
+    public @Nullable String getRemoteVersion() { return remoteVersion; }
+
+    /**
+     * Used to return the download link the provider held
+     *
+     * @return The download link
+     */
+    public @Nullable String getDownloadLink() { return downloadLink; }
+
+    /**
+     * Used to return the changelog link the provider held
+     *
+     * @return The changelog link
+     */
+    public @Nullable String getChangelogLink() { return changelogLink; }
+
+    /**
+     * Used to return the artifact link the provider held
+     *
+     * @return The artifact link
+     */
+    public @Nullable String getArtifactLink() { return artifactLink; }
+
+    /**
+     * Used to return the artifact checksum the provider held
+     *
+     * @return The artifact checksum
+     */
+    public @Nullable String getArtifactChecksum() { return artifactChecksum; }
+
+    /**
+     * Used to return the entity tag returned with the provider's last parsed response
+     *
+     * @return The entity tag
+     */
+    public @Nullable String getEntityTag() { return entityTag; }
+
+    /**
+     * Used to return the last modified date returned with the provider's last parsed response
+     *
+     * @return The last modified date
+     */
+    public @Nullable String getLastModified() { return lastModified; }
+
+    /**
+     * Used to return the time in milliseconds at which this snapshot was taken
+     *
+     * @return The check timestamp
+     */
+    public long getCheckedAt() { return checkedAt; }
+}
@@ -0,0 +1,35 @@
+package com.moleculepowered.api.updater.enums;
+
+public enum CheckMode
+{
+    /**
+     * <p>When this mode is used, the updater will contact each provider one at a time in the
+     * order they were added, and it will stop as soon as a provider returns a newer version.</p>
+     *
+     * <p>This is the default mode, though please note that a provider that cannot be reached
+     * will block the check until its connection times out.</p>
+     */
+    SEQUENTIAL,
+    /**
+     * <p>When this mode is used, the updater will contact every provider at the same time and
+     * wait for all of them to answer, or until the updater's timeout has been reached.</p>
+     *
+     * <p>Once all answers are gathered, the provider with the highest version is chosen, if two
+     * providers return the same version, the one added first will be chosen.</p>
+     */
+    CONCURRENT,
+    /**
+     * <p>When this mode is used, the updater will contact the first provider and, if it has not answered
+     * within the hedge delay, it will also contact the next provider, and so on. The first provider to return
+     * a valid version is chosen and the providers still running are cancelled.</p>
+     *
+     * <p>This mode is intended for providers that mirror the same project, the check then takes as long as
+     * the fastest healthy mirror while usually only contacting one of them. A provider that fails causes the
+     * next one to be contacted straight away.</p>
+     *
+     * <p>Please note that cancelling a provider does not interrupt a connection that is already waiting on its
+     * remote server, the provider keeps its thread until the connection answers or reaches the read timeout set
+     * with {@link com.moleculepowered.api.updater.abstraction.HttpTransport#setReadTimeout(int)}.</p>
+     */
+    HEDGED
+}
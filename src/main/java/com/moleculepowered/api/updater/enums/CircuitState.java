@@ -0,0 +1,19 @@
+package com.moleculepowered.api.updater.enums;
+
+public enum CircuitState
+{
+    /**
+     * <p>The provider is healthy and will be contacted by every check.</p>
+     */
+    CLOSED,
+    /**
+     * <p>The provider has failed too many checks in a row and will not be contacted until its
+     * backoff has passed, checks will use the values it last returned instead.</p>
+     */
+    OPEN,
+    /**
+     * <p>The provider's backoff has passed and a single check is contacting it, if that check
+     * succeeds the circuit is closed, otherwise it is opened again with a longer backoff.</p>
+     */
+    HALF_OPEN
+}
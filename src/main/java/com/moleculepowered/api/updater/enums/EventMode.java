@@ -0,0 +1,21 @@
+package com.moleculepowered.api.updater.enums;
+
+public enum EventMode
+{
+    /**
+     * <p>When this mode is used, the updater will call its events as soon as each check completes,
+     * on the thread that ran the check, and it will call them after every check.</p>
+     *
+     * <p>This is the default mode, though please note that when the updater is scheduled async,
+     * listeners will be called off the main thread.</p>
+     */
+    IMMEDIATE,
+    /**
+     * <p>When this mode is used, the updater will only call its events when the result or the latest
+     * version differs from the previous check, repeated outcomes are ignored.</p>
+     *
+     * <p>Events are always called on the main thread together with the notifications of the updater,
+     * if several outcomes are produced before the main thread delivers them, only the latest is called.</p>
+     */
+    COALESCED
+}
@@ -1,6 +1,8 @@
 package com.moleculepowered.api.updater.enums;
 
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.List;
@@ -47,6 +49,8 @@ public enum ReleaseTag
      */
     RELEASE("release", "rc", "r");
 
+    private static final ReleaseTag[] VALUES = values();
+
     // ENUM OBJECTS
     private final List<String> alts;
 
@@ -70,8 +74,48 @@ public enum ReleaseTag
      * @return A valid release type.
      */
     public static ReleaseTag parse(String type) {
-        for (ReleaseTag current : ReleaseTag.values()) {
-            if (current.getAlt().contains(type.toLowerCase())) return current;
+        ReleaseTag tag = match(type, 0, type.length());
+        return tag != null ? tag : RELEASE;
+    }
+
+    /**
+     * Used to return the {@link ReleaseTag} whose identifier matches the provided region of the
+     * input, ignoring case. Unlike {@link #parse(String)}, this method will return null when
+     * no identifier matches, and it does not create any objects.
+     *
+     * @param input Target input
+     * @param start The first index of the region
+     * @param end The index following the region
+     * @return The matching release tag or null
+     */
+    public static @Nullable ReleaseTag match(@NotNull CharSequence input, int start, int end) {
+        for (ReleaseTag current : VALUES) {
+            for (String alt : current.alts) {
+                if (alt.length() == end - start && regionMatches(input, start, alt)) return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Used to find the first word within the provided input that identifies a {@link ReleaseTag},
+     * for example, "Beta Build 1.2.0" will return {@link #BETA}. If no word identifies a release
+     * tag, this method will return the default {@link ReleaseTag#RELEASE}.
+     *
+     * @param input Target input
+     * @return A valid release type
+     */
+    public static @NotNull ReleaseTag find(@NotNull CharSequence input) {
+        int length = input.length();
+
+        for (int i = 0; i < length; i++) {
+            if (!Character.isLetter(input.charAt(i))) continue;
+
+            int start = i;
+            while (i < length && Character.isLetter(input.charAt(i))) i++;
+
+            ReleaseTag tag = match(input, start, i);
+            if (tag != null) return tag;
         }
         return RELEASE;
     }
@@ -84,4 +128,11 @@ public enum ReleaseTag
      * @return true if both objects are equal
      */
     public static boolean equals(ReleaseTag expected, String actual) { return expected == parse(actual); }
+
+    private static boolean regionMatches(@NotNull CharSequence input, int start, @NotNull String alt) {
+        for (int i = 0; i < alt.length(); i++) {
+            if (Character.toLowerCase(input.charAt(start + i)) != alt.charAt(i)) return false;
+        }
+        return true;
+    }
 }
@@ -1,28 +1,41 @@
 package com.moleculepowered.api.updater.provider;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.moleculepowered.api.console.Console;
 import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.HostBudget;
+import com.moleculepowered.api.updater.abstraction.HttpResponse;
+import com.moleculepowered.api.updater.abstraction.ProviderSnapshot;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.net.ssl.HttpsURLConnection;
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
+import java.util.Date;
+import java.util.Map;
 
 public class GithubProvider extends AbstractProvider
 {
     private final String providerVersion, providerAuthor;
-    private String downloadLink, remoteVersion, changelogLink;
+    private final String token;
+    private String downloadLink, remoteVersion, changelogLink, artifactLink;
 
-    public GithubProvider(String repo) {
+    public GithubProvider(String repo) { this(repo, null); }
+
+    /**
+     * Creates a new instance for this provider that will authenticate its requests with the provided
+     * token, authenticated requests are given their own rate limit by GitHub instead of sharing the
+     * limit given to every anonymous request from the same address.
+     *
+     * @param repo Target repository, for example "owner/name"
+     * @param token Optional personal access token
+     */
+    public GithubProvider(String repo, @Nullable String token) {
         super("https://api.github.com/repos/{0}/releases/latest", repo);
         this.providerVersion = "1.0";
         this.providerAuthor = "MoleculePowered";
+        this.token = token;
     }
 
     /*
@@ -37,34 +50,140 @@ public class GithubProvider extends AbstractProvider
      */
     @Override
     public boolean initialize() throws IOException {
-        HttpsURLConnection conn = (HttpsURLConnection) getRemoteURL().openConnection();
-        conn.addRequestProperty("User-Agent", getUserAgent());
-        conn.setReadTimeout(30000);
-        conn.setDoOutput(true);
-        conn.connect();
-
-        if (conn.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) {
-            Console.warn("Unable to connect to provider, perhaps the resource doest not exist");
-            return false;
+        try (HttpResponse response = request()) {
+            if (isNotModified(response)) return true;
+
+            if (response.getStatus() == HttpURLConnection.HTTP_NOT_FOUND) {
+                Console.warn("Unable to connect to provider, perhaps the resource doest not exist");
+                return false;
+            }
+
+            boolean limited = response.getStatus() == HttpURLConnection.HTTP_FORBIDDEN || response.getStatus() == HostBudget.HTTP_TOO_MANY_REQUESTS;
+            if (limited && getBudget().isExhausted()) {
+                Console.debugWarn("Unable to connect to {0}: Rate limit reached, retrying after {1}", getProviderName(), new Date(getBudget().getBlockedUntil()));
+                return false;
+            }
+
+            if (response.getStatus() == HttpURLConnection.HTTP_FORBIDDEN) {
+                Console.warn("Unable to connect to {0}: Access denied, perhaps the token is invalid or cannot read the repository", getProviderName());
+                return false;
+            }
+
+            if (response.getStatus() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                throw new IOException("Server returned HTTP response code: " + response.getStatus() + " for URL: " + getRemoteURL());
+            }
+
+            if (!parse(response.getReader())) return false;
+            storeValidators(response);
+            return true;
         }
+    }
+
+    /**
+     * Used to return the headers sent with each request, if a token was provided it will be
+     * included as the authorization header.
+     *
+     * @return The request headers
+     */
+    @Override
+    protected @NotNull Map<String, String> getRequestHeaders() {
+        Map<String, String> headers = super.getRequestHeaders();
+        headers.put("Accept", "application/vnd.github+json");
+
+        if (token != null) headers.put("Authorization", "Bearer " + token);
+        return headers;
+    }
+
+    /**
+     * Used to return the key used to look up this provider's budget, authenticated requests
+     * are given their own budget by GitHub and therefore do not share the anonymous budget.
+     *
+     * @return The budget key
+     */
+    @Override
+    protected @NotNull String getBudgetKey() {
+        return token != null ? super.getBudgetKey() + "#" + Integer.toHexString(token.hashCode()) : super.getBudgetKey();
+    }
 
-        if (conn.getResponseCode() == HttpURLConnection.HTTP_FORBIDDEN) {
-            Console.debugWarn("Unable to connect to {0}: Rate limit reached", getProviderName());
-            return false;
+    /**
+     * Used to read the values necessary for this provider from the remote server's response
+     *
+     * @param reader Response reader
+     * @return true if the values were read
+     * @throws IOException thrown when the response could not be read
+     */
+    protected boolean parse(@NotNull BufferedReader reader) throws IOException {
+        JsonReader json = new JsonReader(reader);
+        String version = null, changelog = null, download = null;
+        boolean assetsRead = false;
+
+        // ONLY READ UNTIL ALL REQUIRED FIELDS ARE FOUND
+        json.beginObject();
+        while (json.hasNext() && (version == null || changelog == null || !assetsRead)) {
+            switch (json.nextName()) {
+                case "tag_name":
+                    version = json.nextString();
+                    break;
+                case "html_url":
+                    changelog = json.nextString();
+                    break;
+                case "assets":
+                    download = readFirstAsset(json);
+                    assetsRead = true;
+                    break;
+                default:
+                    json.skipValue();
+            }
         }
 
-        final BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-        JsonObject resource = new Gson().fromJson(reader, JsonObject.class);
-        JsonArray assets = resource.get("assets").getAsJsonArray();
+        if (version == null) return false;
 
         // SET REMOTE VERSION AND DOWNLOAD LINK
-        remoteVersion = resource.get("tag_name").getAsString();
-        changelogLink = resource.get("html_url").getAsString();
+        remoteVersion = version;
+        changelogLink = changelog;
+        artifactLink = download;
+        if (download != null) downloadLink = download;
+        return true;
+    }
 
-        if (assets.size() > 0) {
-            JsonObject latestResource = assets.get(0).getAsJsonObject();
-            downloadLink = latestResource.get("browser_download_url").getAsString();
+    /**
+     * Used to read the download link of the first asset within the assets array, every other
+     * asset will be skipped without being read.
+     *
+     * @param json Target reader, positioned at the assets array
+     * @return The first asset's download link
+     * @throws IOException thrown when the array could not be read
+     */
+    private static @Nullable String readFirstAsset(@NotNull JsonReader json) throws IOException {
+        String link = null;
+
+        json.beginArray();
+        if (json.hasNext()) {
+            json.beginObject();
+            while (json.hasNext()) {
+                if (json.nextName().equals("browser_download_url")) link = json.nextString();
+                else json.skipValue();
+            }
+            json.endObject();
         }
+
+        while (json.hasNext()) json.skipValue();
+        json.endArray();
+        return link;
+    }
+
+    /**
+     * Used to assign the values held within a snapshot to this provider
+     *
+     * @param snapshot Target snapshot
+     * @return true if the values were assigned
+     */
+    @Override
+    protected boolean restore(@NotNull ProviderSnapshot snapshot) {
+        remoteVersion = snapshot.getRemoteVersion();
+        downloadLink = snapshot.getDownloadLink();
+        changelogLink = snapshot.getChangelogLink();
+        artifactLink = snapshot.getArtifactLink();
         return true;
     }
 
@@ -124,6 +243,15 @@ public class GithubProvider extends AbstractProvider
     @Override
     public @Nullable String getRemoteVersion() { return remoteVersion; }
 
+    /**
+     * Used to return the link that points directly to the update's file, unlike the
+     * download link this link will be downloaded by the updater.
+     *
+     * @return The update's file link
+     */
+    @Override
+    public @Nullable String getArtifactLink() { return artifactLink; }
+
     /**
      * Gets the author of this provider, As many developers create their own custom
      * providers, we need a way to differentiate between each provider.
@@ -0,0 +1,474 @@
+package com.moleculepowered.api.updater.provider;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.moleculepowered.api.console.Console;
+import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.HttpResponse;
+import com.moleculepowered.api.updater.abstraction.HttpTransport;
+import com.moleculepowered.api.updater.abstraction.ProviderSnapshot;
+import com.moleculepowered.api.util.Util;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A default provider used to access resources through the Modrinth network.
+ * <p>
+ * Instead of looking up a project by its id, this provider identifies the installed jar by its
+ * SHA-512 hash. Every Modrinth provider created on the server is resolved within a single request
+ * to Modrinth's bulk update endpoint, so the amount of requests does not grow with the amount of
+ * plugins installed from Modrinth.
+ *
+ * @author Molecule
+ */
+public class ModrinthProvider extends AbstractProvider
+{
+    // SHARED BATCH STATE
+    private static final Set<ModrinthProvider> PROVIDERS = ConcurrentHashMap.newKeySet();
+    private static final Object BATCH_LOCK = new Object();
+    private static final long BATCH_AGE = 60000L;
+    private static volatile Map<String, Release> releases = Collections.emptyMap();
+    private static volatile Set<String> batchedHashes = Collections.emptySet();
+    private static volatile long batchedAt;
+
+    private final String providerVersion, providerAuthor;
+    private final String hash;
+    private String downloadLink, changelogLink, remoteVersion, checksum;
+
+    /**
+     * The primary constructor used to identify the provided plugin's jar, the jar's hash is
+     * cached within the plugin's data folder so it is only computed again once the jar changes.
+     *
+     * @param plugin Target plugin
+     */
+    public ModrinthProvider(@NotNull Plugin plugin) { this(Util.getJarFile(plugin), new File(plugin.getDataFolder(), "modrinth.dat")); }
+
+    /**
+     * Creates a new instance for this provider that will identify the provided jar, if a cache
+     * file is provided, the jar's hash will be stored there along with the jar's size and last
+     * modified date.
+     *
+     * @param jar Target jar
+     * @param cacheFile Optional hash cache
+     */
+    public ModrinthProvider(@NotNull File jar, @Nullable File cacheFile) {
+        super("https://api.modrinth.com/v2/version_files/update");
+        this.providerVersion = "1.0";
+        this.providerAuthor = "MoleculePowered";
+        this.hash = hash(jar, cacheFile);
+        PROVIDERS.add(this);
+    }
+
+    /*
+    IMPLEMENTATION METHODS
+     */
+
+    /**
+     * <p>Used to fetch the latest version from the remote server.</p>
+     *
+     * <p>The main function of this method should be to simple access the remote server
+     * and initialize the values necessary for this provider</p>
+     */
+    @Override
+    public boolean initialize() throws IOException {
+        Release release;
+        synchronized (BATCH_LOCK) {
+            if (!batchedHashes.contains(hash) || System.currentTimeMillis() - batchedAt > BATCH_AGE) fetchBatch();
+            release = releases.get(hash);
+        }
+
+        if (release == null) {
+            Console.warn("Unable to connect to provider, perhaps the resource doest not exist");
+            return false;
+        }
+
+        remoteVersion = release.version;
+        downloadLink = release.downloadLink;
+        changelogLink = release.changelogLink;
+        checksum = release.checksum;
+        return true;
+    }
+
+    /**
+     * Used to remove this provider from the shared batch, so the hash of a plugin that has been
+     * disabled is no longer sent with every batch request.
+     */
+    @Override
+    public void dispose() { PROVIDERS.remove(this); }
+
+    /**
+     * Used to resolve every registered Modrinth provider within a single request to the
+     * bulk update endpoint, the previous batch is discarded first so a failed request never
+     * leaves outdated releases behind.
+     *
+     * @throws IOException thrown when the remote server could not be reached
+     */
+    private void fetchBatch() throws IOException {
+        Set<String> hashes = new LinkedHashSet<>();
+        for (ModrinthProvider provider : PROVIDERS) hashes.add(provider.hash);
+
+        JsonArray hashArray = new JsonArray();
+        JsonArray loaderArray = new JsonArray();
+        for (String hash : hashes) hashArray.add(new JsonPrimitive(hash));
+        for (String loader : new String[] {"bukkit", "spigot", "paper", "purpur", "folia"}) loaderArray.add(new JsonPrimitive(loader));
+
+        JsonObject body = new JsonObject();
+        body.add("hashes", hashArray);
+        body.addProperty("algorithm", "sha512");
+        body.add("loaders", loaderArray);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("User-Agent", getUserAgent());
+        headers.put("Content-Type", "application/json");
+
+        releases = Collections.emptyMap();
+        batchedHashes = Collections.emptySet();
+        batchedAt = 0;
+
+        try (HttpResponse response = HttpTransport.post(getRemoteURL(), headers, body.toString().getBytes(StandardCharsets.UTF_8))) {
+            getBudget().update(response);
+
+            if (response.getStatus() != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Server returned HTTP response code: " + response.getStatus() + " for URL: " + getRemoteURL());
+            }
+
+            releases = parse(response.getReader());
+            batchedHashes = hashes;
+            batchedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Used to read the latest release for each hash from the bulk update response, only the
+     * fields used by this provider are read and every other value is skipped.
+     *
+     * @param reader Response reader
+     * @return The latest release mapped by hash
+     * @throws IOException thrown when the response could not be read
+     */
+    protected static @NotNull Map<String, Release> parse(@NotNull BufferedReader reader) throws IOException {
+        JsonReader json = new JsonReader(reader);
+        Map<String, Release> result = new HashMap<>();
+
+        json.beginObject();
+        while (json.hasNext()) {
+            String hash = json.nextName();
+            String version = null, versionId = null, projectId = null, download = null, checksum = null;
+
+            json.beginObject();
+            while (json.hasNext()) {
+                switch (json.nextName()) {
+                    case "version_number":
+                        version = json.nextString();
+                        break;
+                    case "id":
+                        versionId = json.nextString();
+                        break;
+                    case "project_id":
+                        projectId = json.nextString();
+                        break;
+                    case "files":
+                        String[] file = readPrimaryFile(json);
+                        download = file[0];
+                        checksum = file[1];
+                        break;
+                    default:
+                        json.skipValue();
+                }
+            }
+            json.endObject();
+
+            String changelog = projectId != null && versionId != null ? Util.format("https://modrinth.com/project/{0}/version/{1}", projectId, versionId) : null;
+            result.put(hash, new Release(version, download, changelog, checksum));
+        }
+        json.endObject();
+        return result;
+    }
+
+    /**
+     * Used to read the download url and SHA-512 hash of the primary file within a version's file
+     * array, if no file is marked as primary, the first file will be used.
+     *
+     * @param json Target reader, positioned at the files array
+     * @return An array holding the url and hash
+     * @throws IOException thrown when the array could not be read
+     */
+    private static @NotNull String[] readPrimaryFile(@NotNull JsonReader json) throws IOException {
+        String[] chosen = null;
+
+        json.beginArray();
+        while (json.hasNext()) {
+            String url = null, sha512 = null;
+            boolean primary = false;
+
+            json.beginObject();
+            while (json.hasNext()) {
+                switch (json.nextName()) {
+                    case "url":
+                        url = json.nextString();
+                        break;
+                    case "primary":
+                        primary = json.nextBoolean();
+                        break;
+                    case "hashes":
+                        json.beginObject();
+                        while (json.hasNext()) {
+                            if (json.nextName().equals("sha512")) sha512 = json.nextString();
+                            else json.skipValue();
+                        }
+                        json.endObject();
+                        break;
+                    default:
+                        json.skipValue();
+                }
+            }
+            json.endObject();
+
+            if (chosen == null || primary) chosen = new String[] {url, sha512};
+        }
+        json.endArray();
+        return chosen != null ? chosen : new String[2];
+    }
+
+    /**
+     * Used to assign the values held within a snapshot to this provider
+     *
+     * @param snapshot Target snapshot
+     * @return true if the values were assigned
+     */
+    @Override
+    protected boolean restore(@NotNull ProviderSnapshot snapshot) {
+        remoteVersion = snapshot.getRemoteVersion();
+        downloadLink = snapshot.getDownloadLink();
+        changelogLink = snapshot.getChangelogLink();
+        checksum = snapshot.getArtifactChecksum();
+        return true;
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return a key that uniquely identifies the remote endpoint this provider reads from,
+     * since every Modrinth provider shares the same url, the key includes the jar's hash.
+     *
+     * @return The endpoint key
+     */
+    @Override
+    public @NotNull String getEndpointKey() { return super.getEndpointKey() + "#" + hash; }
+
+    /**
+     * <p>Used to return the unique name for this update provider.</p>
+     *
+     * <p>Ideally this method should return a name that will uniquely identify
+     * this provider, it can be a name of a service such as github or spigot, or
+     * it can be a name with a version number, etc.</p>
+     *
+     * @return This providers unique name
+     * @throws NullPointerException thrown when this value return's null
+     */
+    @Override
+    public @NotNull String getProviderName() { return "Modrinth"; }
+
+    /**
+     * <p>Used to return the download link the notified user's will see when a new
+     * update is available.</p>
+     *
+     * <p>If not method does not return a null value, it will be the link used
+     * when notifying all permitted users about the update</p>
+     *
+     * <p>NOTE: This link is not intended to be the same link that will access the remote server,
+     * its should be more tailored more to a location where the user's can download the new
+     * update directly or to point them to the website where they can download it from</p>
+     *
+     * @return The update's download link
+     */
+    @Override
+    public @Nullable String getDownloadLink() { return downloadLink; }
+
+    /**
+     * Used to return the link pointing to the update's changelog
+     *
+     * @return the url pointing to the changelog
+     */
+    @Override
+    public @Nullable String getChangelogLink() { return changelogLink; }
+
+    /**
+     * <p>Used to return the remote version retrieved by this provider.</p>
+     *
+     * <p>NOTE: This method allows the possibility of return a null
+     * version, the reason for this is to prevent errors being thrown when
+     * this provider encounters adverse outcomes when accessing the remote server
+     * such as a failed internet connection</p>
+     *
+     * @return Remote version
+     */
+    @Override
+    public @Nullable String getRemoteVersion() { return remoteVersion; }
+
+    /**
+     * Used to return the link that points directly to the update's file, unlike the
+     * download link this link will be downloaded by the updater.
+     *
+     * @return The update's file link
+     */
+    @Override
+    public @Nullable String getArtifactLink() { return downloadLink; }
+
+    /**
+     * Used to return the SHA-512 hash Modrinth published for the latest release's file
+     *
+     * @return The release's hash
+     */
+    @Override
+    public @Nullable String getArtifactChecksum() { return checksum; }
+
+    /**
+     * Used to return the algorithm Modrinth used for the {@link #getArtifactChecksum()}
+     *
+     * @return The checksum algorithm
+     */
+    @Override
+    public @NotNull String getChecksumAlgorithm() { return "SHA-512"; }
+
+    /**
+     * Used to return the SHA-512 hash of the installed jar
+     *
+     * @return The installed jar's hash
+     */
+    public @NotNull String getHash() { return hash; }
+
+    /**
+     * Gets the author of this provider, As many developers create their own custom
+     * providers, we need a way to differentiate between each provider.
+     *
+     * @return The provider's author
+     */
+    @Override
+    public @NotNull String getProviderAuthor() { return providerAuthor; }
+
+    /**
+     * Gets the current build version for this provider, please note that this method WILL
+     * NOT return the version fetched but the remove server. As developers upgrade their methods
+     * for fetching update information, this method will provide a way to differentiate between
+     * each upgrade, allowing debugging to be easier to follow.
+     *
+     * @return The provider's build version
+     */
+    @Override
+    public @NotNull String getProviderVersion() { return providerVersion; }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to return the SHA-512 hash of the provided jar, if the cache file holds
+     * a hash for the same jar with the same size and last modified date, the cached hash is returned
+     * without reading the jar.
+     *
+     * @param jar Target jar
+     * @param cacheFile Optional hash cache
+     * @return The jar's hash
+     */
+    private static @NotNull String hash(@NotNull File jar, @Nullable File cacheFile) {
+        String path = jar.getAbsolutePath();
+        long size = jar.length();
+        long modified = jar.lastModified();
+
+        if (cacheFile != null && cacheFile.isFile()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+                if (in.readUTF().equals(path) && in.readLong() == size && in.readLong() == modified) return in.readUTF();
+            }
+            catch (IOException ignored) {}
+        }
+
+        String hash = digest(jar);
+
+        File parent = cacheFile != null ? cacheFile.getAbsoluteFile().getParentFile() : null;
+        if (parent != null && (parent.isDirectory() || parent.mkdirs())) {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cacheFile)))) {
+                out.writeUTF(path);
+                out.writeLong(size);
+                out.writeLong(modified);
+                out.writeUTF(hash);
+            }
+            catch (IOException ex) {
+                Console.debugWarn("Unable to write hash cache {0}: {1}", cacheFile.getName(), ex.getMessage());
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * A utility method used to compute the SHA-512 hash of the provided file, the file is memory
+     * mapped so it is digested without being copied onto the heap.
+     *
+     * @param file Target file
+     * @return The file's hash
+     */
+    private static @NotNull String digest(@NotNull File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-512");
+            long size = channel.size();
+            long position = 0;
+
+            while (position < size) {
+                long length = Math.min(size - position, Integer.MAX_VALUE);
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+                position += length;
+            }
+            return Util.toHex(digest.digest());
+        }
+        catch (IOException | NoSuchAlgorithmException ex) {
+            throw new IllegalArgumentException("Unable to hash " + file.getName(), ex);
+        }
+    }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A class used to represent the latest release Modrinth returned for a single hash
+     */
+    protected static final class Release
+    {
+        private final String version, downloadLink, changelogLink, checksum;
+
+        private Release(String version, String downloadLink, String changelogLink, String checksum) {
+            this.version = version;
+            this.downloadLink = downloadLink;
+            this.changelogLink = changelogLink;
+            this.checksum = checksum;
+        }
+    }
+}
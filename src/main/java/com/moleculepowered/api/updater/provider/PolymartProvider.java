@@ -2,14 +2,15 @@ package com.moleculepowered.api.updater.provider;
 
 import com.moleculepowered.api.console.Console;
 import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.HttpResponse;
+import com.moleculepowered.api.updater.abstraction.ProviderSnapshot;
 import com.moleculepowered.api.util.Util;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.net.ssl.HttpsURLConnection;
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
 
 public class PolymartProvider extends AbstractProvider
 {
@@ -33,20 +34,47 @@ public class PolymartProvider extends AbstractProvider
      */
     @Override
     public boolean initialize() throws IOException {
-        HttpsURLConnection conn = (HttpsURLConnection) getRemoteURL().openConnection();
-        conn.addRequestProperty("User-Agent", getUserAgent());
-        conn.setReadTimeout(30000);
-        conn.setDoOutput(true);
-        conn.connect();
+        try (HttpResponse response = request()) {
+            if (isNotModified(response)) return true;
 
-        final BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()));
+            if (response.getStatus() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                throw new IOException("Server returned HTTP response code: " + response.getStatus() + " for URL: " + getRemoteURL());
+            }
 
-        if (reader.readLine().contains("Unknown resource id")) {
+            if (!parse(response.getReader())) return false;
+            storeValidators(response);
+            return true;
+        }
+    }
+
+    /**
+     * Used to read the values necessary for this provider from the remote server's response
+     *
+     * @param reader Response reader
+     * @return true if the values were read
+     * @throws IOException thrown when the response could not be read
+     */
+    protected boolean parse(@NotNull BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+
+        if (line == null || line.contains("Unknown resource id")) {
             Console.warn("Unable to connect to provider, perhaps the resource doest not exist");
             return false;
         }
 
-        remoteVersion = reader.readLine();
+        remoteVersion = line;
+        return true;
+    }
+
+    /**
+     * Used to assign the values held within a snapshot to this provider
+     *
+     * @param snapshot Target snapshot
+     * @return true if the values were assigned
+     */
+    @Override
+    protected boolean restore(@NotNull ProviderSnapshot snapshot) {
+        remoteVersion = snapshot.getRemoteVersion();
         return true;
     }
 
@@ -4,14 +4,14 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.moleculepowered.api.console.Console;
 import com.moleculepowered.api.updater.abstraction.AbstractProvider;
+import com.moleculepowered.api.updater.abstraction.HttpResponse;
+import com.moleculepowered.api.updater.abstraction.ProviderSnapshot;
 import com.moleculepowered.api.util.Util;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.net.ssl.HttpsURLConnection;
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 
 public class SpigetProvider extends AbstractProvider
@@ -34,25 +34,51 @@ public class SpigetProvider extends AbstractProvider
      * and initialize the values necessary for this provider</p>
      */
     @Override
-    public boolean initialize() throws IOException{
-        HttpsURLConnection conn = (HttpsURLConnection) getRemoteURL().openConnection();
-        conn.addRequestProperty("User-Agent", getUserAgent());
-        conn.setReadTimeout(30000);
-        conn.setDoOutput(true);
-        conn.connect();
-
-        if (conn.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) {
-            Console.warn("Unable to connect to provider, perhaps the resource doest not exist");
-            return false;
+    public boolean initialize() throws IOException {
+        try (HttpResponse response = request()) {
+            if (isNotModified(response)) return true;
+
+            if (response.getStatus() == HttpURLConnection.HTTP_NOT_FOUND) {
+                Console.warn("Unable to connect to provider, perhaps the resource doest not exist");
+                return false;
+            }
+
+            if (response.getStatus() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                throw new IOException("Server returned HTTP response code: " + response.getStatus() + " for URL: " + getRemoteURL());
+            }
+
+            if (!parse(response.getReader())) return false;
+            storeValidators(response);
+            return true;
         }
+    }
 
-        final BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()));
+    /**
+     * Used to read the values necessary for this provider from the remote server's response
+     *
+     * @param reader Response reader
+     * @return true if the values were read
+     * @throws IOException thrown when the response could not be read
+     */
+    protected boolean parse(@NotNull BufferedReader reader) throws IOException {
         JsonObject resource = new Gson().fromJson(reader, JsonObject.class);
 
         remoteVersion = resource.get("name").getAsString();
         return true;
     }
 
+    /**
+     * Used to assign the values held within a snapshot to this provider
+     *
+     * @param snapshot Target snapshot
+     * @return true if the values were assigned
+     */
+    @Override
+    protected boolean restore(@NotNull ProviderSnapshot snapshot) {
+        remoteVersion = snapshot.getRemoteVersion();
+        return true;
+    }
+
     /**
      * <p>Used to return the unique name for this update provider.</p>
      *
@@ -105,6 +131,15 @@ public class SpigetProvider extends AbstractProvider
     @Override
     public @Nullable String getRemoteVersion() { return remoteVersion; }
 
+    /**
+     * Used to return the link that points directly to the update's file, unlike the
+     * download link this link will be downloaded by the updater.
+     *
+     * @return The update's file link
+     */
+    @Override
+    public @Nullable String getArtifactLink() { return downloadLink; }
+
     /**
      * Gets the author of this provider, As many developers create their own custom
      * providers, we need a way to differentiate between each provider.
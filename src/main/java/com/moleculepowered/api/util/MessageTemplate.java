@@ -0,0 +1,251 @@
+package com.moleculepowered.api.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class used to represent a compiled message pattern that follows the bracketed number format,
+ * for example "Hello {0}, my name is {1}".
+ * <p>
+ * Each pattern is split into its literal and argument segments once, compiled templates are cached
+ * so formatting the same pattern again only renders the arguments into a builder reused by the
+ * calling thread. Arguments are rendered the same way {@link MessageFormat} renders them, numbers and
+ * dates use the default locale's formats, though unlike {@link MessageFormat}, apostrophes are
+ * kept as they are.
+ * <p>
+ * Patterns using format types such as "{0,number,#.##}" are passed to {@link MessageFormat}.
+ *
+ * @see Util#format(String, Object...)
+ */
+public final class MessageTemplate
+{
+    private static final ConcurrentHashMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final int CACHE_LIMIT = 512;
+    private static final int BUILDER_LIMIT = 8192;
+    private static final ThreadLocal<Renderer> RENDERER = ThreadLocal.withInitial(Renderer::new);
+
+    private final String pattern;
+    private final String[] literals;
+    private final int[] arguments;
+    private final boolean legacy;
+
+    private MessageTemplate(@NotNull String pattern, @NotNull String[] literals, @NotNull int[] arguments, boolean legacy) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.arguments = arguments;
+        this.legacy = legacy;
+    }
+
+    /*
+    COMPILING TEMPLATES
+     */
+
+    /**
+     * Used to return the compiled template for the provided pattern, templates are cached so
+     * compiling the same pattern again will return the same template.
+     *
+     * @param pattern Target pattern
+     * @return The compiled template
+     */
+    public static @NotNull MessageTemplate compile(@NotNull String pattern) {
+        MessageTemplate cached = CACHE.get(pattern);
+        if (cached != null) return cached;
+
+        if (CACHE.size() >= CACHE_LIMIT) CACHE.clear();
+        MessageTemplate compiled = parse(pattern);
+        MessageTemplate previous = CACHE.putIfAbsent(pattern, compiled);
+        return previous != null ? previous : compiled;
+    }
+
+    /**
+     * Used to split the provided pattern into its literal and argument segments, any bracket that
+     * does not hold a plain argument number is kept as literal text.
+     *
+     * @param pattern Target pattern
+     * @return A new template
+     */
+    private static @NotNull MessageTemplate parse(@NotNull String pattern) {
+        int length = pattern.length();
+        int count = 0;
+
+        // COUNT THE ARGUMENTS SO THE SEGMENTS CAN BE SIZED
+        for (int i = 0; i < length; i++) {
+            if (pattern.charAt(i) != '{') continue;
+
+            int end = argumentEnd(pattern, i);
+            if (end > 0) count++;
+            else if (end == 0) return new MessageTemplate(pattern, new String[] {pattern}, new int[0], true);
+        }
+
+        String[] literals = new String[count + 1];
+        int[] arguments = new int[count];
+        int start = 0;
+        int index = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (pattern.charAt(i) != '{') continue;
+
+            int end = argumentEnd(pattern, i);
+            if (end < 0) continue;
+
+            literals[index] = pattern.substring(start, i);
+            arguments[index++] = Integer.parseInt(pattern.substring(i + 1, end));
+            start = end + 1;
+            i = end;
+        }
+
+        literals[index] = pattern.substring(start);
+        return new MessageTemplate(pattern, literals, arguments, false);
+    }
+
+    /*
+    RENDERING TEMPLATES
+     */
+
+    /**
+     * Used to render this template with the provided arguments, arguments that are not provided
+     * will leave their placeholder in place.
+     *
+     * @param param Optional parameters
+     * @return The rendered message
+     */
+    public @NotNull String render(Object... param) {
+        if (legacy) return MessageFormat.format(pattern, param);
+        if (arguments.length == 0) return literals[0];
+
+        Renderer renderer = RENDERER.get();
+
+        // NESTED RENDERS, SUCH AS AN ARGUMENT FORMATTING ITSELF, USE THEIR OWN BUILDER
+        if (renderer.busy) {
+            StringBuilder builder = new StringBuilder(pattern.length() + 16 * arguments.length);
+            renderTo(builder, renderer, param);
+            return builder.toString();
+        }
+
+        renderer.busy = true;
+        try {
+            StringBuilder builder = renderer.builder;
+            builder.setLength(0);
+            renderTo(builder, renderer, param);
+
+            String result = builder.toString();
+            if (builder.capacity() > BUILDER_LIMIT) renderer.builder = new StringBuilder(256);
+            return result;
+        }
+        finally {
+            renderer.busy = false;
+        }
+    }
+
+    private void renderTo(@NotNull StringBuilder builder, @NotNull Renderer renderer, Object[] param) {
+        for (int i = 0; i < arguments.length; i++) {
+            builder.append(literals[i]);
+
+            int argument = arguments[i];
+            if (param == null || argument >= param.length) builder.append('{').append(argument).append('}');
+            else renderer.append(builder, param[argument]);
+        }
+        builder.append(literals[arguments.length]);
+    }
+
+    /*
+    GETTER METHODS
+     */
+
+    /**
+     * Used to return the pattern this template was compiled from
+     *
+     * @return The original pattern
+     */
+    @Override
+    public @NotNull String toString() { return pattern; }
+
+    /**
+     * Used to return the amount of arguments within this template
+     *
+     * @return The amount of arguments
+     */
+    public int getArgumentCount() { return arguments.length; }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to return the index of the closing bracket of the argument starting at
+     * the provided index. This method will return -1 when the bracket does not hold an argument, and
+     * 0 when it holds an argument with a format type, which must be handled by {@link MessageFormat}.
+     *
+     * @param pattern Target pattern
+     * @param start The index of the opening bracket
+     * @return The index of the closing bracket
+     */
+    @Contract(pure = true)
+    private static int argumentEnd(@NotNull String pattern, int start) {
+        int i = start + 1;
+        while (i < pattern.length() && i - start <= 9 && Character.isDigit(pattern.charAt(i))) i++;
+
+        if (i == start + 1 || i >= pattern.length() || i - start > 9) return -1;
+        if (pattern.charAt(i) == '}') return i;
+        return pattern.charAt(i) == ',' && pattern.indexOf('}', i) > 0 ? 0 : -1;
+    }
+
+    /*
+    INNER CLASSES
+     */
+
+    /**
+     * A class used to hold the objects each thread reuses while rendering, the formats match
+     * the ones {@link MessageFormat} uses for arguments without a format type.
+     */
+    private static final class Renderer
+    {
+        private final FieldPosition position = new FieldPosition(0);
+        private StringBuilder builder = new StringBuilder(256);
+        private NumberFormat numberFormat;
+        private DateFormat dateFormat;
+        private Locale locale;
+        private boolean busy;
+
+        private void append(@NotNull StringBuilder builder, Object value) {
+            if (value instanceof String) {
+                builder.append((String) value);
+            }
+            else if (value instanceof Number) {
+                builder.append(getNumberFormat().format(value, new StringBuffer(), position));
+            }
+            else if (value instanceof Date) {
+                builder.append(getDateFormat().format(value, new StringBuffer(), position));
+            }
+            else {
+                builder.append(value);
+            }
+        }
+
+        private @NotNull NumberFormat getNumberFormat() {
+            if (numberFormat == null || !currentLocale().equals(locale)) refresh();
+            return numberFormat;
+        }
+
+        private @NotNull DateFormat getDateFormat() {
+            if (dateFormat == null || !currentLocale().equals(locale)) refresh();
+            return dateFormat;
+        }
+
+        private void refresh() {
+            locale = currentLocale();
+            numberFormat = NumberFormat.getInstance(locale);
+            dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+        }
+
+        private static @NotNull Locale currentLocale() { return Locale.getDefault(Locale.Category.FORMAT); }
+    }
+}
@@ -4,10 +4,12 @@ import com.moleculepowered.api.Regex;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.apache.commons.lang.RandomStringUtils;
 import org.bukkit.ChatColor;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.text.MessageFormat;
+import java.io.File;
+import java.net.URISyntaxException;
 
 public class Util
 {
@@ -24,13 +26,15 @@ public class Util
      *
      * <p>And therefore the final result returned from this method will be <strong>"Hello Ron, my name is Jeff"</strong></p>
      *
+     * <p>Each input is compiled once and cached, see {@link MessageTemplate} for details.</p>
+     *
      * @param input Provided input
      * @param param Optional Parameters
      * @return a formatted string
      */
     @Contract(pure = true)
     public static @NotNull String format(String input, Object... param) {
-        return MessageFormat.format(input, param);
+        return MessageTemplate.compile(input).render(param);
     }
 
     /**
@@ -88,6 +92,10 @@ public class Util
             String unitType = interval.split("\\d+")[1].trim();
 
             switch (unitType.toLowerCase()) {
+                case "ms":
+                case "millisecond":
+                case "milliseconds":
+                    return quantity;
                 case "s":
                 case "second":
                 case "seconds":
@@ -171,4 +179,38 @@ public class Util
     public static @NotNull String randomizedString(int length) {
         return RandomStringUtils.random(length, true, true);
     }
+
+    /**
+     * Used to convert the provided bytes into a lowercase hexadecimal string, this method
+     * is typically used to display the result of a message digest.
+     *
+     * @param bytes Target bytes
+     * @return A hexadecimal string
+     */
+    @Contract(pure = true)
+    public static @NotNull String toHex(@NotNull byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = Character.forDigit((bytes[i] >> 4) & 0xF, 16);
+            hex[i * 2 + 1] = Character.forDigit(bytes[i] & 0xF, 16);
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Used to locate the jar file the provided plugin was loaded from
+     *
+     * @param plugin Target plugin
+     * @return The plugin's jar
+     * @throws IllegalArgumentException thrown when the jar cannot be located
+     */
+    public static @NotNull File getJarFile(@NotNull Plugin plugin) {
+        try {
+            return new File(plugin.getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+        }
+        catch (URISyntaxException ex) {
+            throw new IllegalArgumentException("Unable to locate the jar for " + plugin.getName(), ex);
+        }
+    }
 }
@@ -1,18 +1,285 @@
 package com.moleculepowered.api.util;
 
+import com.moleculepowered.api.updater.enums.ReleaseTag;
 import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A utility class designed to handle all tasks related to version support and nms configuring.
  * This class provides a variety to test whether a version is supported (either the server's or
  * a user's minecraft client). It pairs with libraries such as ProtocolLib, ViaVersion, etc
  * to assist with nms configuration.
+ * <p>
+ * Instances of this class represent a single parsed version. Versions made of up to four numbers
+ * below 32768, optionally followed by an alpha, beta, rc, snapshot or release qualifier, are packed
+ * into a single long so comparing them is a primitive comparison. Every other version is compared
+ * using Maven's {@link ComparableVersion}, both forms follow the same ordering. Versions are
+ * interned, so comparing the same strings again does not create any objects.
  *
  * @author OMGitzFROST
  * @implNote All usable methods in this class should be accessed as static objects.
  */
-public final class Version
+public final class Version implements Comparable<Version>
 {
+    private static final ConcurrentHashMap<String, Version> CACHE = new ConcurrentHashMap<>();
+    private static final int CACHE_LIMIT = 1024;
+    private static final int COMPONENT_LIMIT = 0x7FFF;
+    private static final int COMPONENT_COUNT = 4;
+
+    // QUALIFIER RANKS, THESE FOLLOW MAVEN'S ORDERING
+    private static final int RANK_ALPHA = 0;
+    private static final int RANK_BETA = 1;
+    private static final int RANK_RC = 3;
+    private static final int RANK_SNAPSHOT = 4;
+    private static final int RANK_RELEASE = 5;
+
+    private final String raw;
+    private final String number;
+    private final int[] components;
+    private final ReleaseTag releaseTag;
+    private final long packed;
+    private volatile ComparableVersion comparable;
+
+    private Version(@NotNull String raw, @NotNull String number, @NotNull int[] components, @NotNull ReleaseTag releaseTag, long packed) {
+        this.raw = raw;
+        this.number = number;
+        this.components = components;
+        this.releaseTag = releaseTag;
+        this.packed = packed;
+    }
+
+    /*
+     * PARSING VERSIONS
+     */
+
+    /**
+     * Used to return the version represented by the provided string, the returned version is
+     * shared by every caller providing the same string.
+     *
+     * @param version Target version
+     * @return The parsed version
+     */
+    public static @NotNull Version of(@NotNull String version) {
+        Version cached = CACHE.get(version);
+        if (cached != null) return cached;
+
+        if (CACHE.size() >= CACHE_LIMIT) CACHE.clear();
+        Version parsed = parse(version);
+        Version previous = CACHE.putIfAbsent(version, parsed);
+        return previous != null ? previous : parsed;
+    }
+
+    /**
+     * Used to find the first version within the provided input, a version is made of one or more
+     * numbers separated by a dot, for example "Release v1.2.0-beta" will return "1.2.0-beta" and
+     * "Build 4567" will return "4567". If the input does not contain a number, this method will
+     * return null.
+     * <p>
+     * Please note that only dots separate the numbers of a version, numbers separated by any other
+     * character such as "1-2-3" only return their first number, and a single number such as "123"
+     * is always read whole rather than split into several numbers.
+     *
+     * @param input Target input
+     * @return The first version or null
+     */
+    public static @Nullable Version find(@NotNull String input) {
+        int length = input.length();
+
+        for (int start = 0; start < length; start++) {
+            if (!isDigit(input, start) || (start > 0 && isDigit(input, start - 1))) continue;
+
+            int end = start;
+            int count = 0;
+
+            while (true) {
+                while (isDigit(input, end)) end++;
+                if (++count < COMPONENT_COUNT && end + 1 < length && input.charAt(end) == '.' && isDigit(input, end + 1)) end++;
+                else break;
+            }
+
+            // INCLUDE A QUALIFIER ATTACHED TO THE NUMBERS
+            int qualifier = end < length && input.charAt(end) == '-' ? end + 1 : end;
+            int qualifierEnd = qualifier;
+            while (qualifierEnd < length && Character.isLetter(input.charAt(qualifierEnd))) qualifierEnd++;
+            if (qualifierEnd > qualifier) end = qualifierEnd;
+
+            return of(input.substring(start, end));
+        }
+        return null;
+    }
+
+    /**
+     * Used to parse the provided string in a single pass, if the string does not fit the packed
+     * form, the version will be compared using Maven's ordering instead.
+     *
+     * @param raw Target version
+     * @return A new version
+     */
+    private static @NotNull Version parse(@NotNull String raw) {
+        int length = raw.length();
+        int[] components = new int[COMPONENT_COUNT];
+        int count = 0;
+        int index = 0;
+        boolean packable = length > 0;
+
+        // READ THE DOT SEPARATED NUMBERS
+        while (isDigit(raw, index)) {
+            long value = 0;
+            while (isDigit(raw, index)) {
+                value = Math.min(value * 10 + (raw.charAt(index++) - '0'), Integer.MAX_VALUE);
+            }
+
+            if (count < COMPONENT_COUNT) components[count] = (int) value;
+            if (value > COMPONENT_LIMIT || ++count > COMPONENT_COUNT) packable = false;
+
+            if (index + 1 < length && raw.charAt(index) == '.' && isDigit(raw, index + 1)) index++;
+            else break;
+        }
+
+        String number = raw.substring(0, index);
+        if (count == 0) packable = false;
+
+        // READ THE QUALIFIER
+        int qualifier = index < length && raw.charAt(index) == '-' ? index + 1 : index;
+        ReleaseTag tag = ReleaseTag.match(raw, qualifier, length);
+        int rank = rank(raw, qualifier, length);
+        if (rank < 0 || (qualifier > index && qualifier == length)) packable = false;
+
+        long packed = -1;
+        if (packable) {
+            packed = rank;
+            for (int i = COMPONENT_COUNT - 1, shift = 3; i >= 0; i--, shift += 15) packed |= (long) components[i] << shift;
+        }
+        return new Version(raw, number, components, tag != null ? tag : ReleaseTag.RELEASE, packed);
+    }
+
+    /*
+     * INSTANCE METHODS
+     */
+
+    /**
+     * Compares this version with the provided version, versions that both fit the packed
+     * form are compared without creating any objects.
+     *
+     * @param other Target version
+     * @return a negative integer, zero, or a positive integer as this version is less than,
+     * equal to, or greater than the provided version
+     */
+    @Override
+    public int compareTo(@NotNull Version other) {
+        if (this == other) return 0;
+        if (packed >= 0 && other.packed >= 0) return Long.compare(packed, other.packed);
+        return toComparable().compareTo(other.toComparable());
+    }
+
+    @Override
+    public boolean equals(Object other) { return other instanceof Version && compareTo((Version) other) == 0; }
+
+    @Override
+    public int hashCode() { return toComparable().getCanonical().hashCode(); }
+
+    /**
+     * Used to return the string this version was parsed from
+     *
+     * @return The original version
+     */
+    @Override
+    public @NotNull String toString() { return raw; }
+
+    /**
+     * Used to return the numbers of this version without any qualifier, for example
+     * "1.2.0-beta" will return "1.2.0"
+     *
+     * @return The version number
+     */
+    public @NotNull String getNumber() { return number; }
+
+    /**
+     * Used to return the first number of this version
+     *
+     * @return The major version
+     */
+    public int getMajor() { return components[0]; }
+
+    /**
+     * Used to return the second number of this version
+     *
+     * @return The minor version
+     */
+    public int getMinor() { return components[1]; }
+
+    /**
+     * Used to return the third number of this version
+     *
+     * @return The patch version
+     */
+    public int getPatch() { return components[2]; }
+
+    /**
+     * Used to return the fourth number of this version
+     *
+     * @return The build number
+     */
+    public int getBuild() { return components[3]; }
+
+    /**
+     * Used to return the release tag identified by this version's qualifier, if the version
+     * has no qualifier, this method will return {@link ReleaseTag#RELEASE}.
+     *
+     * @return The release tag
+     */
+    public @NotNull ReleaseTag getReleaseTag() { return releaseTag; }
+
+    /**
+     * Used to return whether this version fits the packed form
+     *
+     * @return true if packed
+     */
+    public boolean isPacked() { return packed >= 0; }
+
+    private @NotNull ComparableVersion toComparable() {
+        ComparableVersion result = comparable;
+        if (result == null) comparable = result = new ComparableVersion(raw);
+        return result;
+    }
+
+    /*
+     * UTILITY METHODS
+     */
+
+    private static boolean isDigit(@NotNull String input, int index) {
+        if (index >= input.length()) return false;
+        char current = input.charAt(index);
+        return current >= '0' && current <= '9';
+    }
+
+    /**
+     * A utility method used to return the rank of the qualifier within the provided region, if
+     * the qualifier does not fit the packed form, this method will return -1.
+     *
+     * @param input Target input
+     * @param start The first index of the qualifier
+     * @param end The index following the qualifier
+     * @return The qualifier's rank
+     */
+    private static int rank(@NotNull String input, int start, int end) {
+        int length = end - start;
+
+        if (length == 0) return RANK_RELEASE;
+        if (length == 5 && input.regionMatches(true, start, "alpha", 0, 5)) return RANK_ALPHA;
+        if (length == 4 && input.regionMatches(true, start, "beta", 0, 4)) return RANK_BETA;
+        if (length == 2 && (input.regionMatches(true, start, "rc", 0, 2) || input.regionMatches(true, start, "cr", 0, 2))) return RANK_RC;
+        if (length == 8 && input.regionMatches(true, start, "snapshot", 0, 8)) return RANK_SNAPSHOT;
+        if (length == 2 && input.regionMatches(true, start, "ga", 0, 2)) return RANK_RELEASE;
+        if (length == 5 && input.regionMatches(true, start, "final", 0, 5)) return RANK_RELEASE;
+        if (length == 7 && input.regionMatches(true, start, "release", 0, 7)) return RANK_RELEASE;
+        return -1;
+    }
+
     /*
      * COMPARING VERSIONS
      */
@@ -119,8 +386,11 @@ public final class Version
      * inconsistent with equals."
      */
     public static int compare(Object expected, Object actual) {
-        ComparableVersion d1 = new ComparableVersion(String.valueOf(expected));
-        ComparableVersion d2 = new ComparableVersion(String.valueOf(actual));
-        return d1.compareTo(d2);
+        return toVersion(expected).compareTo(toVersion(actual));
+    }
+
+    @Contract(pure = true)
+    private static @NotNull Version toVersion(Object version) {
+        return version instanceof Version ? (Version) version : of(String.valueOf(version));
     }
 }
\ No newline at end of file
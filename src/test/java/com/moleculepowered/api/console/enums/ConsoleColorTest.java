@@ -0,0 +1,98 @@
+package com.moleculepowered.api.console.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests used to check that the single pass translation produces the same output as the
+ * replace based translation it replaced.
+ */
+class ConsoleColorTest
+{
+    private static final String RESET = ConsoleColor.RESET.toConsoleColor();
+    private static final String[] INPUTS = {
+            "", "plain text", "&aHello &bWorld", "§cRed §lbold §rreset", "\\u00A7eEscaped", "&4&l&nStacked codes",
+            "#FFAA00Gold hex", "Mixed #AA0000 and &2codes", "#FFAA0 short hex", "#GGGGGG invalid hex",
+            "50% &7done", "&0&1&2&3&4&5&6&7&8&9&a&b&c&d&e&f&m&n&r",
+            "[Updater] &eVersion &61.2.0 &7is available", "tab\tand\nnewline &a"
+    };
+
+    @Test
+    void translateMatchesReplaceTranslation() {
+        for (String input : INPUTS) assertEquals(legacyTranslate(input), ConsoleColor.translateColorCodes(input), input);
+    }
+
+    @Test
+    void wrapMatchesReplaceTranslation() {
+        for (ConsoleColor color : ConsoleColor.values()) {
+            if (color.toConsoleColor() == null) continue;
+
+            for (String input : INPUTS) {
+                String expected = legacyTranslate(color.toConsoleColor() + input.replace(" ", " " + color.toConsoleColor()) + RESET);
+                assertEquals(expected, ConsoleColor.wrap(color, input), color + " " + input);
+            }
+        }
+    }
+
+    @Test
+    void translatesCodesTheReplaceTranslationMissed() {
+        assertEquals("&" + RESET, ConsoleColor.translateColorCodes("&"));
+        assertEquals("&z unknown" + RESET, ConsoleColor.translateColorCodes("&z unknown"));
+        assertEquals("magic" + RESET, ConsoleColor.translateColorCodes("&kmagic"));
+        assertEquals(ConsoleColor.GREEN.toConsoleColor() + "upper" + RESET, ConsoleColor.translateColorCodes("&Aupper"));
+        assertEquals(ConsoleColor.GOLD.toConsoleColor() + "hex" + RESET, ConsoleColor.translateColorCodes("&#ffaa00hex"));
+    }
+
+    @Test
+    void stripRemovesTranslatedCodes() {
+        assertEquals("Hello World", ConsoleColor.stripColorCodes("&aHello §bWorld"));
+        assertEquals("Gold hex", ConsoleColor.stripColorCodes("#FFAA00Gold &#FFAA00hex"));
+        assertEquals("&z unknown", ConsoleColor.stripColorCodes("&z unknown"));
+    }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to translate the provided input the way {@link ConsoleColor#translateColorCodes(String)}
+     * did before it was rewritten, every color's bukkit and hex codes are replaced one color at a time.
+     *
+     * @param input Provided input
+     * @return The translated input
+     */
+    private static String legacyTranslate(String input) {
+        input = input.replace("&", "§");
+        input = input.replace("\\u00A7", "§");
+
+        for (ConsoleColor color : ConsoleColor.values()) {
+            String bukkitCode = read(color, "bukkitColor").toString();
+            String hexCode = (String) read(color, "hexCode");
+
+            if (input.contains(bukkitCode)) input = input.replace(bukkitCode, color.toConsoleColor());
+            if (hexCode != null && input.contains(hexCode)) input = input.replace(hexCode, color.toConsoleColor());
+        }
+        return input + RESET;
+    }
+
+    /**
+     * A utility method used to read a private field of the provided color
+     *
+     * @param color Target color
+     * @param name Field name
+     * @return The field value
+     */
+    private static Object read(ConsoleColor color, String name) {
+        try {
+            Field field = ConsoleColor.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(color);
+        }
+        catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.moleculepowered.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests used to check that compiled templates render the same output as {@link MessageFormat},
+ * which {@link Util#format(String, Object...)} used before templates were introduced.
+ */
+class MessageTemplateTest
+{
+    private static final String[] PATTERNS = {
+            "", "No arguments", "{0}", "Hello {0} my name is {1}", "{1} before {0}", "{0}{0}{0}", "Missing {0} and {3}",
+            "Checked {0} providers in {1}ms", "Version {0} is available at {1}"
+    };
+
+    private static final Object[][] PARAMS = {
+            {}, {"Ron"}, {"Ron", "Jeff"}, {null, "Jeff"}, {12, 1534L}, {1234567, 0.5}, {-42.125, new BigDecimal("1234.5678")},
+            {new Date(0L), "text"}, {"{1}", "nested"}, {'c', true}
+    };
+
+    @Test
+    void renderMatchesMessageFormat() {
+        for (String pattern : PATTERNS) {
+            for (Object[] param : PARAMS) {
+                assertEquals(MessageFormat.format(pattern, param), Util.format(pattern, param), pattern);
+                assertEquals(MessageFormat.format(pattern, param), MessageTemplate.compile(pattern).render(param), pattern);
+            }
+        }
+    }
+
+    @Test
+    void formatTypesMatchMessageFormat() {
+        for (Object value : new Object[] {0, 0.5, 1234.5678, -42.125, 1534L}) {
+            assertEquals(MessageFormat.format("{0,number,#.##} rounded", value), Util.format("{0,number,#.##} rounded", value));
+            assertEquals(MessageFormat.format("{0,number,integer} of {1}", value, "total"), Util.format("{0,number,integer} of {1}", value, "total"));
+        }
+    }
+
+    @Test
+    void keepsApostrophes() {
+        assertEquals("Don't stop Ron", Util.format("Don't stop {0}", "Ron"));
+        assertEquals("'quoted' Ron", Util.format("'quoted' {0}", "Ron"));
+    }
+
+    @Test
+    void keepsBracesWithoutArguments() {
+        assertEquals("{name} Ron", Util.format("{name} {0}", "Ron"));
+        assertEquals("{ Ron", Util.format("{ {0}", "Ron"));
+        assertEquals("Ron }", Util.format("{0} }", "Ron"));
+    }
+
+    @Test
+    void countsArguments() {
+        assertEquals(0, MessageTemplate.compile("No arguments").getArgumentCount());
+        assertEquals(2, MessageTemplate.compile("Hello {0} my name is {1}").getArgumentCount());
+    }
+}
@@ -0,0 +1,83 @@
+package com.moleculepowered.api.util;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests used to check that versions compared in their packed form are ordered the same way as
+ * Maven's {@link ComparableVersion}, which is used for every version that cannot be packed.
+ */
+class VersionTest
+{
+    private static final String[] RANKS = {
+            "1.0-alpha", "1.0-ALPHA", "1.0alpha", "1.0-beta", "1.0beta", "1.0-rc", "1.0-RC", "1.0-cr",
+            "1.0-snapshot", "1.0-SNAPSHOT", "1.0", "1.0-ga", "1.0-final", "1.0-release", "1.0.1-alpha", "1.1-snapshot"
+    };
+
+    private static final String[] OVERFLOW = {
+            "32766", "32767", "32768", "40000", "1.32767", "1.32768", "1.0.32767", "1.0.32768",
+            "1.0.0.32767", "1.0.0.32768", "32767.32767.32767.32767", "32767.32767.32767.32767-alpha", "2147483648.0"
+    };
+
+    private static final String[] LENGTHS = {
+            "1", "1.0", "1.0.0", "1.0.0.0", "1.0.0.0.0", "1.0.0.1", "1.0.1", "1.1", "1.2", "1.2.0", "1.2.0.1",
+            "1.2.3.4.5", "1.10", "1.9.9.9", "2", "1-alpha", "1.0.0-alpha", "1.0.0.0-beta", "1.2.3.4.5-rc"
+    };
+
+    @Test
+    void packsEveryRankedQualifier() {
+        for (String version : RANKS) assertTrue(Version.of(version).isPacked(), version);
+    }
+
+    @Test
+    void ranksMatchComparableVersion() { assertParity(RANKS); }
+
+    @Test
+    void overflowMatchesComparableVersion() {
+        assertTrue(Version.of("32767.32767.32767.32767").isPacked());
+        assertFalse(Version.of("32768").isPacked());
+        assertFalse(Version.of("1.0.0.32768").isPacked());
+        assertParity(OVERFLOW);
+    }
+
+    @Test
+    void mixedLengthsMatchComparableVersion() {
+        assertFalse(Version.of("1.2.3.4.5").isPacked());
+        assertParity(LENGTHS);
+    }
+
+    @Test
+    void findsDotSeparatedVersions() {
+        assertEquals("1.2.0-beta", String.valueOf(Version.find("Release v1.2.0-beta")));
+        assertEquals("1.2.3.4", String.valueOf(Version.find("build 1.2.3.4.5")));
+        assertEquals("2.0", String.valueOf(Version.find("v2.0 (1-2-3)")));
+        assertEquals("1", String.valueOf(Version.find("1-2-3")));
+        assertEquals("123", String.valueOf(Version.find("123")));
+        assertEquals("4567", String.valueOf(Version.find("Build 4567")));
+        assertNull(Version.find("no version"));
+    }
+
+    /*
+    UTILITY METHODS
+     */
+
+    /**
+     * A utility method used to compare every pair of the provided versions against Maven's ordering,
+     * whether both versions are packed, only one of them is, or neither.
+     *
+     * @param versions Target versions
+     */
+    private static void assertParity(String[] versions) {
+        for (String first : versions) {
+            for (String second : versions) {
+                int expected = Integer.signum(new ComparableVersion(first).compareTo(new ComparableVersion(second)));
+                assertEquals(expected, Integer.signum(Version.compare(first, second)), first + " compared to " + second);
+            }
+        }
+    }
+}